@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+#
+# Measures the time to the first sorted pom of the standalone SortPomCommand,
+# with class data sharing disabled, with the default JDK archive, and with the AppCDS archive of the plugin.
+#
+# Usage: mvn -Pappcds package && src/bench/startup-benchmark.sh [iterations]
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+iterations="${1:-20}"
+jar="$(ls target/sort-dependency-maven-plugin-*.jar | grep -v -e '-sources.jar$' -e '-javadoc.jar$' | head -n 1)"
+classpath="${jar}"
+archive="target/sort-pom.jsa"
+sample_pom="src/test/resources/test-pom-unsorted-sections.xml"
+work_dir="$(mktemp -d)"
+trap 'rm -rf "${work_dir}"' EXIT
+
+if [ ! -f "${archive}" ]; then
+    echo "AppCDS archive ${archive} not found, run 'mvn -Pappcds package' first" >&2
+    exit 1
+fi
+
+# Runs the sorter on a fresh copy of the unsorted sample pom and prints the elapsed milliseconds
+time_to_first_sorted_pom() {
+    cp "${sample_pom}" "${work_dir}/pom.xml"
+    local start end
+    start="$(date +%s%N)"
+    java "$@" -cp "${classpath}" com.github.innobuds.maven.plugin.cli.SortPomCommand "${work_dir}/pom.xml" > /dev/null
+    end="$(date +%s%N)"
+    echo $(( (end - start) / 1000000 ))
+}
+
+benchmark() {
+    local name="$1"
+    shift
+    # Warm up the file system cache
+    time_to_first_sorted_pom "$@" > /dev/null
+    local total=0 best=0 elapsed
+    for _ in $(seq "${iterations}"); do
+        elapsed="$(time_to_first_sorted_pom "$@")"
+        total=$(( total + elapsed ))
+        if [ "${best}" -eq 0 ] || [ "${elapsed}" -lt "${best}" ]; then
+            best="${elapsed}"
+        fi
+    done
+    printf "%-20s average %5d ms, best %5d ms\n" "${name}" $(( total / iterations )) "${best}"
+}
+
+echo "Time to first sorted pom over ${iterations} runs ($(java -version 2>&1 | head -n 1))"
+benchmark "no CDS" -Xshare:off
+benchmark "default CDS" -Xshare:auto
+benchmark "AppCDS" -XX:SharedArchiveFile="${archive}"
@@ -0,0 +1,49 @@
+package com.github.innobuds.maven.plugin.cli;
+
+import com.github.innobuds.maven.plugin.sorter.SortLogger;
+
+import java.io.PrintStream;
+
+/**
+ * A logger that prints to a console stream, with the same prefixes as the Maven console.
+ * The progress of the sorters is only printed in verbose mode, it is not relevant on the command line otherwise.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+final class ConsoleLogger implements SortLogger {
+
+    /**
+     * The stream to print to.
+     */
+    private final PrintStream out;
+
+    /**
+     * Whether to print the progress of the sorters.
+     */
+    private final boolean verbose;
+
+    /**
+     * Creates a new console logger.
+     *
+     * @param out     The stream to print to.
+     * @param verbose Whether to print the progress of the sorters, warnings are always printed.
+     */
+    ConsoleLogger(PrintStream out, boolean verbose) {
+        this.out = out;
+        this.verbose = verbose;
+    }
+
+    @Override
+    public void info(String message) {
+        if (verbose) {
+            out.println("[info] " + message);
+        }
+    }
+
+    @Override
+    public void warn(String message) {
+        out.println("[warning] " + message);
+    }
+
+}
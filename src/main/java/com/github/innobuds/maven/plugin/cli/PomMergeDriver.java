@@ -0,0 +1,124 @@
+package com.github.innobuds.maven.plugin.cli;
+
+import com.github.innobuds.maven.plugin.util.XmlFormatHelper;
+import com.github.innobuds.maven.plugin.util.XmlHelper;
+import org.w3c.dom.Document;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Git merge driver for POM files, so two branches adding different dependencies, plugins or properties
+ * to the same sorted section merge without conflict.
+ * <p>
+ * Register it once, then enable it for the POM files in {@code .gitattributes} with {@code pom.xml merge=sortpom}:
+ * <pre>
+ * git config merge.sortpom.name "sorted POM merge"
+ * git config merge.sortpom.driver "java -cp sort-dependency-maven-plugin.jar com.github.innobuds.maven.plugin.cli.PomMergeDriver %O %A %B %P"
+ * </pre>
+ * The sections are merged entry by entry by {@link PomThreeWayMerger} and the result is written back sorted to the
+ * {@code %A} file, with the indentation and line endings resolved for {@code %P}. When the same entry changed
+ * differently on both sides, the driver falls back to {@code git merge-file}, which leaves the usual conflict markers.
+ * Nothing is parsed when one side did not change the file, so most invocations return without any XML work.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class PomMergeDriver {
+
+    /**
+     * Exit code when the POM file is merged.
+     */
+    static final int EXIT_MERGED = 0;
+
+    /**
+     * Exit code when the POM file has conflicts, or cannot be merged at all.
+     */
+    static final int EXIT_CONFLICT = 1;
+
+    /**
+     * Non-public constructor to prevent instantiation of the entry point class.
+     */
+    private PomMergeDriver() {
+        throw new UnsupportedOperationException("Entry point class should not be instantiated");
+    }
+
+    /**
+     * Merges the POM file versions given as arguments, as called by git.
+     *
+     * @param args The base, ours and theirs files, optionally followed by the path of the merged file.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.err));
+    }
+
+    /**
+     * Merges the POM file versions given as arguments and returns the exit code instead of exiting.
+     * package-private access for testing.
+     *
+     * @param args The base, ours and theirs files, optionally followed by the path of the merged file.
+     * @param err  The stream to report the conflicts, the warnings of the sorters and the errors.
+     * @return The exit code, non-zero if the merged file still has conflicts.
+     */
+    static int run(String[] args, PrintStream err) {
+        if (args.length < 3 || args.length > 4) {
+            err.println("Usage: PomMergeDriver <base> <ours> <theirs> [path]");
+            return EXIT_CONFLICT;
+        }
+        final Path baseFile = Paths.get(args[0]);
+        final Path oursFile = Paths.get(args[1]);
+        final Path theirsFile = Paths.get(args[2]);
+        final String path = args.length == 4 ? args[3] : args[1];
+        try {
+            final byte[] base = Files.readAllBytes(baseFile);
+            final byte[] ours = Files.readAllBytes(oursFile);
+            final byte[] theirs = Files.readAllBytes(theirsFile);
+            if (Arrays.equals(ours, theirs) || Arrays.equals(base, theirs)) {
+                return EXIT_MERGED;
+            }
+            if (Arrays.equals(base, ours)) {
+                Files.write(oursFile, theirs);
+                return EXIT_MERGED;
+            }
+            Document mergedDocument = PomThreeWayMerger.merge(base, ours, theirs, new ConsoleLogger(err, false));
+            if (mergedDocument != null) {
+                Files.write(oursFile, XmlHelper.serialize(mergedDocument, XmlFormatHelper.resolve(new File(path), ours)));
+                return EXIT_MERGED;
+            }
+            err.println("Conflicting changes in " + path + ", falling back to git merge-file");
+        } catch (IOException | RuntimeException e) {
+            err.println("Cannot merge " + path + " by sections, falling back to git merge-file: " + e.getMessage());
+        }
+        return mergeFile(baseFile, oursFile, theirsFile, err);
+    }
+
+    /**
+     * Runs the line based merge of {@code git merge-file}, which writes the conflict markers to the ours file.
+     *
+     * @param baseFile   The base file.
+     * @param oursFile   The ours file, overwritten with the merge result.
+     * @param theirsFile The theirs file.
+     * @param err        The stream to report the errors.
+     * @return The exit code, non-zero if the merged file still has conflicts.
+     */
+    private static int mergeFile(Path baseFile, Path oursFile, Path theirsFile, PrintStream err) {
+        ProcessBuilder processBuilder = new ProcessBuilder("git", "merge-file", "-L", "ours", "-L", "base", "-L", "theirs",
+            oursFile.toString(), baseFile.toString(), theirsFile.toString()).inheritIO();
+        try {
+            // git merge-file exits with the number of conflicts, or a negative value on error
+            return processBuilder.start().waitFor() == 0 ? EXIT_MERGED : EXIT_CONFLICT;
+        } catch (IOException e) {
+            err.println("Error running git merge-file: " + e.getMessage());
+            return EXIT_CONFLICT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_CONFLICT;
+        }
+    }
+
+}
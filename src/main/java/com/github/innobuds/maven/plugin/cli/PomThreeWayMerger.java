@@ -0,0 +1,350 @@
+package com.github.innobuds.maven.plugin.cli;
+
+import com.github.innobuds.maven.plugin.sorter.DependenciesSorter;
+import com.github.innobuds.maven.plugin.sorter.PluginsSorter;
+import com.github.innobuds.maven.plugin.sorter.PomSectionSorter;
+import com.github.innobuds.maven.plugin.sorter.PomSortOptions;
+import com.github.innobuds.maven.plugin.sorter.PropertiesSorter;
+import com.github.innobuds.maven.plugin.sorter.SortContext;
+import com.github.innobuds.maven.plugin.sorter.SortLogger;
+import com.github.innobuds.maven.plugin.util.DomHelper;
+import com.github.innobuds.maven.plugin.util.XmlFormat;
+import com.github.innobuds.maven.plugin.util.XmlHelper;
+import com.github.innobuds.maven.plugin.util.XmlSerializer;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Three-way merge of POM files that resolves the sorted sections entry by entry instead of line by line.
+ * <p>
+ * The &lt;dependency&gt; elements are keyed by groupId:artifactId:type:classifier, the &lt;plugin&gt; elements
+ * by groupId:artifactId and the properties by tag name. An entry changed on one side only is taken from that side,
+ * so two branches adding different entries to the same section merge cleanly.
+ * The rest of the POM file must only be changed on one side.
+ * The merged sections keep the order of the current branch, with the entries added by the merged branch appended.
+ * Only the sections that were already sorted in the common ancestor are sorted again, with the same sorters
+ * as the {@code sort} goal, so a merge never reorders a section nobody sorted.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+final class PomThreeWayMerger {
+
+    /**
+     * The paths from the &lt;project&gt; element to the sections merged entry by entry.
+     */
+    private static final List<List<String>> SECTION_PATHS = Collections.unmodifiableList(Arrays.asList(
+        Arrays.asList("dependencyManagement", "dependencies"),
+        Collections.singletonList("dependencies"),
+        Arrays.asList("build", "pluginManagement", "plugins"),
+        Arrays.asList("build", "plugins"),
+        Collections.singletonList("properties")
+    ));
+
+    /**
+     * The sorters of the merged sections, they are stateless.
+     */
+    private static final List<PomSectionSorter> SORTERS = Collections.unmodifiableList(Arrays.asList(
+        new DependenciesSorter(), new PluginsSorter(), new PropertiesSorter()
+    ));
+
+    /**
+     * The serializer used to compare the entries and the rest of the POM files, whatever their layout is.
+     */
+    private static final XmlSerializer CANONICAL_SERIALIZER = new XmlSerializer(XmlFormat.DEFAULT);
+
+    /**
+     * Non-public constructor to prevent instantiation of the utility class.
+     */
+    private PomThreeWayMerger() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * An entry of a merged section, the element and the comment preceding it.
+     */
+    private static final class Entry {
+        /**
+         * The element of the entry.
+         */
+        final Element element;
+
+        /**
+         * The comment preceding the element, or {@code null} if there is none.
+         */
+        @Nullable
+        final Node comment;
+
+        /**
+         * The canonical form of the entry, used to detect the changes.
+         */
+        final String canonicalForm;
+
+        /**
+         * Creates a new entry and computes its canonical form.
+         *
+         * @param element The element of the entry.
+         * @param comment The comment preceding the element, or {@code null} if there is none.
+         * @throws IOException If there is an error during the canonical serialization.
+         */
+        Entry(Element element, @Nullable Node comment) throws IOException {
+            this.element = element;
+            this.comment = comment;
+            StringWriter writer = new StringWriter();
+            if (comment != null) {
+                writer.write(comment.getTextContent().trim());
+                writer.write('\n');
+            }
+            CANONICAL_SERIALIZER.serialize(element, writer);
+            this.canonicalForm = writer.toString();
+        }
+    }
+
+    /**
+     * One of the three versions of the merged POM file, split into the entries of its sections and the rest.
+     */
+    private static final class Side {
+        /**
+         * The parsed document, whose sections are emptied once their entries are collected.
+         */
+        final Document document;
+
+        /**
+         * The section elements indexed by section path, the sections that do not exist are absent.
+         */
+        final Map<List<String>, Element> sectionElements = new HashMap<>();
+
+        /**
+         * The entries of each section indexed by key, in document order, indexed by section path.
+         */
+        final Map<List<String>, Map<String, Entry>> sectionEntries = new HashMap<>();
+
+        /**
+         * The canonical form of the document without the entries of its sections.
+         */
+        String restCanonicalForm;
+
+        /**
+         * Creates a new side of the merge.
+         *
+         * @param document The parsed document.
+         */
+        Side(Document document) {
+            this.document = document;
+        }
+    }
+
+    /**
+     * Merges the three versions of a POM file.
+     *
+     * @param base   The content of the common ancestor.
+     * @param ours   The content of the current branch.
+     * @param theirs The content of the merged branch.
+     * @param log    The logger passed to the sorters.
+     * @return The merged document, or {@code null} if the same entry, or the rest of the POM file,
+     * changed differently on both sides.
+     * @throws IOException If one of the versions cannot be parsed, or there is an error during the canonical serialization.
+     */
+    @Nullable
+    static Document merge(byte[] base, byte[] ours, byte[] theirs, SortLogger log) throws IOException {
+        List<PomSectionSorter> sorters = getSortersOfSortedSections(base);
+        Side baseSide = split(XmlHelper.parse(base));
+        Side oursSide = split(XmlHelper.parse(ours));
+        Side theirsSide = split(XmlHelper.parse(theirs));
+        if (baseSide == null || oursSide == null || theirsSide == null) {
+            return null;
+        }
+
+        // The rest of the POM file is taken as a whole from the side that changed it
+        final Side template;
+        if (oursSide.restCanonicalForm.equals(theirsSide.restCanonicalForm) || theirsSide.restCanonicalForm.equals(baseSide.restCanonicalForm)) {
+            template = oursSide;
+        } else if (oursSide.restCanonicalForm.equals(baseSide.restCanonicalForm)) {
+            template = theirsSide;
+        } else {
+            return null;
+        }
+
+        for (List<String> sectionPath : SECTION_PATHS) {
+            List<Entry> mergedEntries = mergeSection(baseSide.sectionEntries.get(sectionPath),
+                oursSide.sectionEntries.get(sectionPath), theirsSide.sectionEntries.get(sectionPath));
+            if (mergedEntries == null) {
+                return null;
+            }
+            Element sectionElement = template.sectionElements.get(sectionPath);
+            if (sectionElement == null) {
+                // One side added entries to a section the other side removed
+                if (!mergedEntries.isEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+            for (Entry entry : mergedEntries) {
+                if (entry.comment != null) {
+                    sectionElement.appendChild(template.document.importNode(entry.comment, true));
+                }
+                sectionElement.appendChild(template.document.importNode(entry.element, true));
+            }
+        }
+
+        SortContext context = new SortContext("merged", log);
+        for (PomSectionSorter sorter : sorters) {
+            sorter.sort(template.document, context);
+        }
+        return template.document;
+    }
+
+    /**
+     * Returns the sorters whose sections were already sorted in the common ancestor, only those sort the merged document.
+     * A sorter that would change the common ancestor, or that finds nothing to sort in it, is left out.
+     *
+     * @param base The content of the common ancestor.
+     * @return The sorters to run on the merged document, in order.
+     * @throws IOException If the common ancestor cannot be parsed.
+     */
+    private static List<PomSectionSorter> getSortersOfSortedSections(byte[] base) throws IOException {
+        List<PomSectionSorter> sorters = new ArrayList<>(SORTERS.size());
+        for (PomSectionSorter sorter : SORTERS) {
+            // Every sorter gets its own copy of the common ancestor, the sorting changes it
+            SortContext context = new SortContext("base", PomSortOptions.DEFAULT.getLog());
+            final boolean changed = sorter.sort(XmlHelper.parse(base), context);
+            if (!changed && context.getSortedElementCount(sorter.getSectionName()) > 0) {
+                sorters.add(sorter);
+            }
+        }
+        return sorters;
+    }
+
+    /**
+     * Splits a document into the entries of its sections and the rest.
+     *
+     * @param document The document to split, its sections are emptied.
+     * @return The split document, or {@code null} if a section has an entry without key or two entries with the same key.
+     * @throws IOException If there is an error during the canonical serialization.
+     */
+    @Nullable
+    private static Side split(Document document) throws IOException {
+        Side side = new Side(document);
+        for (List<String> sectionPath : SECTION_PATHS) {
+            Element sectionElement = DomHelper.findChildElementByPath(document.getDocumentElement(), sectionPath.toArray(new String[0]));
+            if (sectionElement == null) {
+                continue;
+            }
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            for (Node node = sectionElement.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if (node.getNodeType() != Node.ELEMENT_NODE) {
+                    continue;
+                }
+                Element element = (Element) node;
+                final String key = getEntryKey(element);
+                Node commentNode = DomHelper.findCommentNodeOf(element);
+                if (commentNode != null && isGroupComment(commentNode)) {
+                    // The group comments of <properties> are regenerated by the sorter
+                    commentNode = null;
+                }
+                if (key == null || entries.put(key, new Entry(element, commentNode)) != null) {
+                    return null;
+                }
+            }
+            DomHelper.removeAllChildNodesOf(sectionElement);
+            side.sectionElements.put(sectionPath, sectionElement);
+            side.sectionEntries.put(sectionPath, entries);
+        }
+        StringWriter writer = new StringWriter();
+        CANONICAL_SERIALIZER.serialize(document, writer);
+        side.restCanonicalForm = writer.toString();
+        return side;
+    }
+
+    /**
+     * Merges the entries of one section.
+     *
+     * @param base   The entries of the common ancestor, or {@code null} if the section does not exist.
+     * @param ours   The entries of the current branch, or {@code null} if the section does not exist.
+     * @param theirs The entries of the merged branch, or {@code null} if the section does not exist.
+     * @return The merged entries, or {@code null} if the same entry changed differently on both sides.
+     */
+    @Nullable
+    private static List<Entry> mergeSection(@Nullable Map<String, Entry> base, @Nullable Map<String, Entry> ours, @Nullable Map<String, Entry> theirs) {
+        final Map<String, Entry> baseEntries = base == null ? Collections.emptyMap() : base;
+        final Map<String, Entry> oursEntries = ours == null ? Collections.emptyMap() : ours;
+        final Map<String, Entry> theirsEntries = theirs == null ? Collections.emptyMap() : theirs;
+        // Our order first, so the entries the sorters do not reorder keep their place
+        Set<String> keys = new LinkedHashSet<>(oursEntries.keySet());
+        keys.addAll(theirsEntries.keySet());
+        keys.addAll(baseEntries.keySet());
+
+        List<Entry> mergedEntries = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            final Entry baseEntry = baseEntries.get(key);
+            final Entry oursEntry = oursEntries.get(key);
+            final Entry theirsEntry = theirsEntries.get(key);
+            final Entry mergedEntry;
+            if (isSameEntry(oursEntry, theirsEntry) || isSameEntry(theirsEntry, baseEntry)) {
+                mergedEntry = oursEntry;
+            } else if (isSameEntry(oursEntry, baseEntry)) {
+                mergedEntry = theirsEntry;
+            } else {
+                return null;
+            }
+            if (mergedEntry != null) {
+                mergedEntries.add(mergedEntry);
+            }
+        }
+        return mergedEntries;
+    }
+
+    /**
+     * Checks whether two entries are the same, an absent entry is only the same as another absent entry.
+     *
+     * @param entry      The first entry, or {@code null} if it is absent.
+     * @param otherEntry The second entry, or {@code null} if it is absent.
+     * @return {@code true} if both entries are the same, otherwise {@code false}.
+     */
+    private static boolean isSameEntry(@Nullable Entry entry, @Nullable Entry otherEntry) {
+        return Objects.equals(entry == null ? null : entry.canonicalForm, otherEntry == null ? null : otherEntry.canonicalForm);
+    }
+
+    /**
+     * Returns the merge key of an entry, the same identity the sorters use.
+     * The keys are built from the direct children only, and a &lt;plugin&gt; without groupId gets the default one of Maven.
+     *
+     * @param element The element of the entry.
+     * @return The merge key of the entry, or {@code null} if a &lt;dependency&gt; or &lt;plugin&gt; has no coordinates.
+     */
+    @Nullable
+    private static String getEntryKey(Element element) {
+        final String tagName = element.getTagName();
+        if ("dependency".equals(tagName)) {
+            return DomHelper.getDependencyCoordinateKey(element);
+        }
+        return "plugin".equals(tagName) ? DomHelper.getElementUniqueKey(element) : tagName;
+    }
+
+    /**
+     * Checks whether a comment is one of the group comments added by {@link PropertiesSorter}.
+     *
+     * @param commentNode The comment node.
+     * @return {@code true} if the comment is a group comment, otherwise {@code false}.
+     */
+    private static boolean isGroupComment(Node commentNode) {
+        final String comment = commentNode.getTextContent().trim();
+        return PropertiesSorter.MAVEN_PLUGIN_VERSION_COMMENT.equals(comment) || PropertiesSorter.DEPENDENCY_VERSION_COMMENT.equals(comment);
+    }
+
+}
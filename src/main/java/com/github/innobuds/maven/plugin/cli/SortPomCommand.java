@@ -0,0 +1,137 @@
+package com.github.innobuds.maven.plugin.cli;
+
+import com.github.innobuds.maven.plugin.sorter.PomSectionSorter;
+import com.github.innobuds.maven.plugin.sorter.PomSortException;
+import com.github.innobuds.maven.plugin.sorter.PomSortResult;
+import com.github.innobuds.maven.plugin.sorter.PomSorter;
+import com.github.innobuds.maven.plugin.sorter.SortContext;
+import com.github.innobuds.maven.plugin.sorter.SortLogger;
+import com.github.innobuds.maven.plugin.util.XmlFormatHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Standalone entry point that sorts POM files without starting Maven, for pre-commit hooks and IDE tools.
+ * It runs all registered {@link PomSectionSorter} implementations, the same as the {@code sort} goal.
+ * <p>
+ * Usage: {@code java -cp sort-dependency-maven-plugin.jar
+ * com.github.innobuds.maven.plugin.cli.SortPomCommand [--check] [--verbose] [pom.xml...]}
+ * <p>
+ * With {@code --check}, the POM files are not written and the exit code is 1 if any of them is not sorted.
+ * The exit code is 2 if any POM file cannot be read, parsed or written.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class SortPomCommand {
+
+    /**
+     * Exit code when the POM files are sorted.
+     */
+    static final int EXIT_SORTED = 0;
+
+    /**
+     * Exit code when a POM file is not sorted in check mode.
+     */
+    static final int EXIT_UNSORTED = 1;
+
+    /**
+     * Exit code when a POM file cannot be processed.
+     */
+    static final int EXIT_ERROR = 2;
+
+    /**
+     * Non-public constructor to prevent instantiation of the entry point class.
+     */
+    private SortPomCommand() {
+        throw new UnsupportedOperationException("Entry point class should not be instantiated");
+    }
+
+    /**
+     * Sorts the POM files given as arguments, or {@code pom.xml} of the working directory by default.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Sorts the POM files given as arguments and returns the exit code instead of exiting.
+     * package-private access for testing.
+     *
+     * @param args The command line arguments.
+     * @param out  The stream to report the processed POM files.
+     * @param err  The stream to report the errors.
+     * @return The exit code.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        boolean check = false;
+        boolean verbose = false;
+        List<File> pomFiles = new ArrayList<>();
+        for (String arg : args) {
+            if ("--check".equals(arg)) {
+                check = true;
+            } else if ("--verbose".equals(arg)) {
+                verbose = true;
+            } else if (arg.startsWith("--")) {
+                err.println("Unknown option " + arg + ", usage: SortPomCommand [--check] [--verbose] [pom.xml...]");
+                return EXIT_ERROR;
+            } else {
+                pomFiles.add(new File(arg));
+            }
+        }
+        if (pomFiles.isEmpty()) {
+            pomFiles.add(new File("pom.xml"));
+        }
+
+        SortLogger log = new ConsoleLogger(out, verbose);
+        PomSorter pomSorter = PomSorter.withRegisteredSorters();
+        int exitCode = EXIT_SORTED;
+        for (File pomFile : pomFiles) {
+            try {
+                if (!sort(pomFile, pomSorter, check, log)) {
+                    out.println((check ? "Not sorted: " : "Sorted: ") + pomFile);
+                    exitCode = check ? Math.max(exitCode, EXIT_UNSORTED) : exitCode;
+                }
+            } catch (IOException | PomSortException e) {
+                err.println("Error sorting " + pomFile + ": " + e.getMessage());
+                exitCode = EXIT_ERROR;
+            } catch (RuntimeException e) {
+                // A crash is an error too, it must not be reported with the exit code of an unsorted POM file
+                err.println("Error sorting " + pomFile + ": " + e);
+                exitCode = EXIT_ERROR;
+            }
+        }
+        return exitCode;
+    }
+
+    /**
+     * Sorts one POM file.
+     *
+     * @param pomFile   The POM file to sort.
+     * @param pomSorter The sorter running all registered sorters.
+     * @param check     Whether to only check the POM file without writing it.
+     * @param log       The logger passed to the sorters.
+     * @return {@code true} if the POM file was already sorted, otherwise {@code false}.
+     * @throws IOException      If there is an error during reading or writing the POM file.
+     * @throws PomSortException If there is an error during parsing or serializing the POM file.
+     */
+    private static boolean sort(File pomFile, PomSorter pomSorter, boolean check, SortLogger log) throws IOException, PomSortException {
+        final byte[] pomContent = Files.readAllBytes(pomFile.toPath());
+        PomSortResult result = pomSorter.sort(pomContent, XmlFormatHelper.resolve(pomFile, pomContent), new SortContext(pomFile.getPath(), log));
+        if (!result.isChanged()) {
+            return true;
+        }
+        if (!check) {
+            Files.write(pomFile.toPath(), result.getContent());
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.sorter.ReactorDependencyIndex;
+import com.github.innobuds.maven.plugin.sorter.SortContext;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * The base class of the sorting Mojos that sort the &lt;dependencies&gt; element.
+ * It holds the options of the dependency analysis done while sorting, so all goals sorting dependencies
+ * share the same parameters and the same reactor wide consistency check.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public abstract class AbstractDependencySortMojo extends AbstractSortMojo {
+
+    /**
+     * Whether to remove the &lt;version&gt; of dependencies that are already managed
+     * with the same version by &lt;dependencyManagement&gt; in the same POM file.
+     * Such versions are only reported by default.
+     */
+    @Parameter(property = "sort.removeManagedVersions", defaultValue = "false")
+    private boolean removeManagedVersions;
+
+    /**
+     * Whether to collect the dependency declarations of all modules in a reactor wide index,
+     * and report the dependencies declared with different versions or scopes in different modules,
+     * as well as the hard-coded versions that should come from a property, once all modules running the goal are sorted.
+     */
+    @Parameter(property = "sort.checkReactorConsistency", defaultValue = "false")
+    private boolean checkReactorConsistency;
+
+    /**
+     * The current Maven session, used to share the reactor wide index between modules.
+     * This parameter is injected by Maven.
+     */
+    @Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
+    /**
+     * The current execution of this goal, used to find the modules of the reactor running it.
+     * This parameter is injected by Maven.
+     */
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true, required = true)
+    private MojoExecution mojoExecution;
+
+    @Override
+    protected void configure(SortContext context) {
+        context.setRemoveManagedVersions(removeManagedVersions);
+        if (checkReactorConsistency) {
+            context.setModuleId(ReactorConsistencyReporter.getModuleId(session.getCurrentProject()));
+            context.setReactorDependencyIndex(ReactorConsistencyReporter.indexOf(session, mojoExecution));
+        }
+    }
+
+    @Override
+    protected void afterSort(SortContext context) {
+        ReactorDependencyIndex reactorDependencyIndex = context.getReactorDependencyIndex();
+        if (reactorDependencyIndex != null) {
+            ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, reactorDependencyIndex, context.getModuleId(), getLog());
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.sorter.PomSectionSorter;
+import com.github.innobuds.maven.plugin.sorter.PomSortException;
+import com.github.innobuds.maven.plugin.sorter.PomSortResult;
+import com.github.innobuds.maven.plugin.sorter.PomSorter;
+import com.github.innobuds.maven.plugin.sorter.SortContext;
+import com.github.innobuds.maven.plugin.util.BuildStateHelper;
+import com.github.innobuds.maven.plugin.util.XmlFormat;
+import com.github.innobuds.maven.plugin.util.XmlFormatHelper;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.sonatype.plexus.build.incremental.BuildContext;
+import org.sonatype.plexus.build.incremental.DefaultBuildContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.CodeSource;
+import java.util.List;
+
+/**
+ * The base class of all sorting Mojos.
+ * It sorts the POM file with a {@link PomSorter} running every {@link PomSectionSorter} returned by {@link #getSorters()},
+ * and writes the POM file back once if the sorted content differs.
+ * <p>
+ * The fingerprint of the resulting POM content and of the configuration is recorded in the build directory,
+ * so a later execution with the same POM file and the same configuration is skipped without parsing anything.
+ * Together with the POM file being written only when its content really changes,
+ * this makes an execution on an already sorted POM file a no-op that does not invalidate build caches.
+ * <p>
+ * In incremental builds of IDEs, the execution is skipped unless the POM file itself has changed,
+ * and the POM file is written through the {@link BuildContext} so the IDE only refreshes what really changed.
+ * <p>
+ * The POM file is written with the indentation and line endings of its {@code .editorconfig} files,
+ * or with the ones it already has, see {@link XmlFormatHelper}.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public abstract class AbstractSortMojo extends AbstractMojo {
+
+    /**
+     * The Maven project for which the elements should be sorted.
+     * This parameter is injected by Maven.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * The build context of the IDE for incremental builds, or the default one for command line builds.
+     * This component is injected by Maven.
+     */
+    @Component
+    private BuildContext buildContext;
+
+    /**
+     * The build directory of the project, where the state of the previous execution is recorded.
+     * This parameter is injected by Maven.
+     */
+    @Parameter(defaultValue = "${project.build.directory}", readonly = true)
+    private File buildDirectory;
+
+    /**
+     * The descriptor of this plugin, whose version is part of the recorded state,
+     * so an upgrade of the plugin sorts the POM file again with the new rules.
+     * This parameter is injected by Maven.
+     */
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor pluginDescriptor;
+
+    /**
+     * Whether to skip the execution if the POM file and the configuration are the same as in the previous execution.
+     */
+    @Parameter(property = "sort.incremental", defaultValue = "true")
+    private boolean incremental = true;
+
+    /**
+     * Returns the sorters to run against the project's POM file, in the order they should run.
+     *
+     * @return The sorters to run against the project's POM file.
+     */
+    protected abstract List<PomSectionSorter> getSorters();
+
+    /**
+     * Applies the Mojo specific configuration to the context passed to the sorters.
+     * Does nothing by default.
+     *
+     * @param context The context of the current sorting run.
+     */
+    protected void configure(SortContext context) {
+        // No specific configuration by default
+    }
+
+    /**
+     * Called once the project's POM file has been sorted and written.
+     * Does nothing by default.
+     *
+     * @param context The context of the current sorting run.
+     */
+    protected void afterSort(SortContext context) {
+        // Nothing to do by default
+    }
+
+    /**
+     * Executes the Mojo to sort the project's POM file.
+     * This method parses the POM file, runs all sorters against the parsed document,
+     * and then writes the modified POM file back to disk if it has been changed.
+     *
+     * @throws MojoExecutionException If there is an error during the execution of the Mojo,
+     *                                such as an issue reading, parsing, or writing the POM file.
+     */
+    @Override
+    public void execute() throws MojoExecutionException {
+        File pomFile = project.getFile();
+        SortContext context = new SortContext(project.getArtifactId(), new MavenSortLogger(getLog()));
+        configure(context);
+        BuildContext currentBuildContext = buildContext == null ? new DefaultBuildContext() : buildContext;
+        // The reactor wide index needs every module to be parsed, so the execution is never skipped then
+        final boolean skippable = context.getReactorDependencyIndex() == null;
+        if (skippable && currentBuildContext.isIncremental() && !currentBuildContext.hasDelta(pomFile)) {
+            getLog().debug(String.format("POM file of module %s has not changed, skip sorting", context.getProjectArtifactId()));
+            return;
+        }
+
+        List<PomSectionSorter> sorters = getSorters();
+        final byte[] pomContent = readPomContent(pomFile);
+        final XmlFormat pomFormat = XmlFormatHelper.resolve(pomFile, pomContent);
+        final String configuration = describeConfiguration(sorters, context, pomFormat);
+
+        File stateFile = incremental && buildDirectory != null && skippable
+            ? new File(buildDirectory, "sort-dependency-maven-plugin/" + getClass().getSimpleName() + ".sha256") : null;
+        if (stateFile != null && BuildStateHelper.isUpToDate(stateFile, BuildStateHelper.fingerprint(pomContent, configuration))) {
+            getLog().info(String.format("POM file of module %s is up to date, skip sorting", context.getProjectArtifactId()));
+            return;
+        }
+
+        PomSortResult result;
+        try {
+            result = new PomSorter(sorters).sort(pomContent, pomFormat, context);
+        } catch (PomSortException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        final byte[] sortedPomContent = result.getContent();
+        if (result.isChanged()) {
+            writePomContent(currentBuildContext, pomFile, sortedPomContent);
+        } else {
+            getLog().info(String.format("POM file of module %s is already sorted, skip writing", context.getProjectArtifactId()));
+        }
+        if (stateFile != null) {
+            BuildStateHelper.save(stateFile, BuildStateHelper.fingerprint(sortedPomContent, configuration));
+        }
+        afterSort(context);
+    }
+
+    /**
+     * Describes the configuration of this execution, which is part of the recorded state.
+     *
+     * @param sorters The sorters to run against the project's POM file.
+     * @param context The context of the current sorting run.
+     * @param format  The format the POM file is written with.
+     * @return The description of the configuration.
+     */
+    private String describeConfiguration(List<PomSectionSorter> sorters, SortContext context, XmlFormat format) {
+        StringBuilder configuration = new StringBuilder(getClass().getName());
+        configuration.append(",version=").append(pluginDescriptor == null ? null : pluginDescriptor.getVersion());
+        for (PomSectionSorter sorter : sorters) {
+            configuration.append(',').append(sorter.getClass().getName()).append('@').append(getSorterVersion(sorter.getClass()));
+        }
+        configuration.append(",removeManagedVersions=").append(context.isRemoveManagedVersions());
+        configuration.append(',').append(format);
+        return configuration.toString();
+    }
+
+    /**
+     * Returns the version of the jar a sorter is loaded from, so upgrading a custom sorter invalidates the recorded state
+     * even when the version of this plugin stays the same.
+     * The name of the jar is used when its manifest does not declare a version.
+     *
+     * @param sorterClass The class of the sorter.
+     * @return The implementation version or the location of the jar of the sorter, or {@code null} if both are unknown.
+     */
+    private static String getSorterVersion(Class<?> sorterClass) {
+        Package sorterPackage = sorterClass.getPackage();
+        final String implementationVersion = sorterPackage == null ? null : sorterPackage.getImplementationVersion();
+        if (implementationVersion != null) {
+            return implementationVersion;
+        }
+        CodeSource codeSource = sorterClass.getProtectionDomain().getCodeSource();
+        return codeSource == null || codeSource.getLocation() == null ? null : codeSource.getLocation().getPath();
+    }
+
+    /**
+     * Reads the content of the POM file.
+     *
+     * @param pomFile The POM file.
+     * @return The content of the POM file.
+     * @throws MojoExecutionException If there is an error during reading the POM file.
+     */
+    private byte[] readPomContent(File pomFile) throws MojoExecutionException {
+        try {
+            return Files.readAllBytes(pomFile.toPath());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error reading pom.xml: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the sorted content back to the POM file through the build context.
+     *
+     * @param buildContext The build context used to write the POM file.
+     * @param pomFile      The POM file.
+     * @param pomContent   The sorted content of the POM file.
+     * @throws MojoExecutionException If there is an error during writing the POM file.
+     */
+    private void writePomContent(BuildContext buildContext, File pomFile, byte[] pomContent) throws MojoExecutionException {
+        try (OutputStream outputStream = buildContext.newFileOutputStream(pomFile)) {
+            outputStream.write(pomContent);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error updating pom.xml: " + e.getMessage(), e);
+        }
+    }
+
+}
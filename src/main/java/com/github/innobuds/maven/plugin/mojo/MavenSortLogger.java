@@ -0,0 +1,38 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.sorter.SortLogger;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Adapts the Maven log of a goal to the {@link SortLogger} the sorters report to.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+final class MavenSortLogger implements SortLogger {
+
+    /**
+     * The Maven log of the goal.
+     */
+    private final Log log;
+
+    /**
+     * Creates a new adapter.
+     *
+     * @param log The Maven log of the goal.
+     */
+    MavenSortLogger(Log log) {
+        this.log = log;
+    }
+
+    @Override
+    public void info(String message) {
+        log.info(message);
+    }
+
+    @Override
+    public void warn(String message) {
+        log.warn(message);
+    }
+
+}
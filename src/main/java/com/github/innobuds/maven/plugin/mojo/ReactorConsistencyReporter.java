@@ -0,0 +1,118 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.sorter.ReactorDependencyIndex;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reports the dependency inconsistencies collected in the {@link ReactorDependencyIndex} of a build
+ * once all modules of the reactor running the goal have been sorted.
+ * It is not meant to be instantiated.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+final class ReactorConsistencyReporter {
+
+    /**
+     * Non-public constructor to prevent instantiation of the utility class.
+     * This class should not be instantiated.
+     */
+    private ReactorConsistencyReporter() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the reactor wide index of the current goal in the build of the given session.
+     * The index is keyed by the execution request rather than by the session itself,
+     * because parallel builds give each module its own clone of the session, while the request is shared by all of them.
+     * Each goal gets its own index, as a build may run several goals sorting the dependencies of the same modules.
+     *
+     * @param session       The current Maven session.
+     * @param mojoExecution The current execution of the goal.
+     * @return The reactor wide index of the current goal in the build.
+     */
+    static ReactorDependencyIndex indexOf(MavenSession session, MojoExecution mojoExecution) {
+        return ReactorDependencyIndex.of(session.getRequest(), mojoExecution.getGoal());
+    }
+
+    /**
+     * Marks the current module as indexed, and reports the inconsistencies of the index
+     * once all modules of the reactor running the current goal have been indexed.
+     * The inconsistencies are reported only once per build, by the module completing the index,
+     * whatever the order the modules of a parallel build finish in.
+     *
+     * @param session                The current Maven session.
+     * @param mojoExecution          The current execution of the goal, used to find the modules running it.
+     * @param reactorDependencyIndex The reactor wide index of the build.
+     * @param moduleId               The groupId:artifactId of the module that has been indexed, as returned by {@link #getModuleId(MavenProject)}.
+     * @param log                    The logger to report the inconsistencies.
+     */
+    static void reportIfComplete(MavenSession session, MojoExecution mojoExecution, ReactorDependencyIndex reactorDependencyIndex,
+                                 String moduleId, Log log) {
+        final int indexedModuleCount = reactorDependencyIndex.markIndexed(moduleId);
+        if (!reactorDependencyIndex.isIndexed(getModulesRunningGoal(session, mojoExecution)) || !reactorDependencyIndex.markReported()) {
+            return;
+        }
+
+        log.info(String.format("Checking %d dependency coordinates declared in %d modules of the reactor", reactorDependencyIndex.size(), indexedModuleCount));
+        List<String> inconsistencies = reactorDependencyIndex.findInconsistencies();
+        inconsistencies.forEach(log::warn);
+        List<String> hardCodedVersions = reactorDependencyIndex.findHardCodedVersions();
+        hardCodedVersions.forEach(log::warn);
+        if (inconsistencies.isEmpty() && hardCodedVersions.isEmpty()) {
+            log.info("No dependency inconsistency found in the reactor");
+        }
+    }
+
+    /**
+     * Returns the identity of a module in the reactor wide index.
+     * The artifactId alone is not enough, two modules of different groups may have the same artifactId.
+     *
+     * @param project The module.
+     * @return The groupId:artifactId of the module.
+     */
+    static String getModuleId(MavenProject project) {
+        return project.getGroupId() + ":" + project.getArtifactId();
+    }
+
+    /**
+     * Returns the groupId:artifactId of the modules of the reactor running the current goal.
+     * A goal invoked from the command line runs in every module, while a goal bound to the lifecycle
+     * only runs in the modules whose build declares an execution of it.
+     *
+     * @param session       The current Maven session.
+     * @param mojoExecution The current execution of the goal.
+     * @return The groupId:artifactId of the modules running the current goal.
+     */
+    static Set<String> getModulesRunningGoal(MavenSession session, MojoExecution mojoExecution) {
+        final boolean invokedFromCommandLine = mojoExecution.getSource() == MojoExecution.Source.CLI;
+        final String pluginKey = mojoExecution.getMojoDescriptor().getPluginDescriptor().getPluginLookupKey();
+        Set<String> modules = new HashSet<>();
+        for (MavenProject project : session.getProjects()) {
+            if (invokedFromCommandLine || isGoalBound(project.getPlugin(pluginKey), mojoExecution.getGoal())) {
+                modules.add(getModuleId(project));
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Checks whether a goal is bound to the build by one of the executions of a plugin.
+     *
+     * @param plugin The plugin declared in the build of a module, or {@code null} if the module does not declare it.
+     * @param goal   The goal to look for.
+     * @return {@code true} if one of the executions of the plugin runs the goal, otherwise {@code false}.
+     */
+    private static boolean isGoalBound(Plugin plugin, String goal) {
+        return plugin != null && plugin.getExecutions().stream().anyMatch(execution -> execution.getGoals().contains(goal));
+    }
+
+}
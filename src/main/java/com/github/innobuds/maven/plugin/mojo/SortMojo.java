@@ -0,0 +1,33 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.sorter.PomSectionSorter;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * A Mojo that runs all registered {@link PomSectionSorter} implementations against the POM file of a Maven project.
+ * The sorters are discovered through {@link ServiceLoader} from the plugin class loader, so the built-in sorters
+ * and any custom sorters added as plugin dependencies share one parse and one write of the POM file.
+ * By default, the sorting is done during the `compile` phase of the Maven build lifecycle.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+@Mojo(name = "sort", defaultPhase = LifecyclePhase.COMPILE, threadSafe = true)
+public class SortMojo extends AbstractDependencySortMojo {
+
+    @Override
+    protected List<PomSectionSorter> getSorters() {
+        List<PomSectionSorter> sorters = new ArrayList<>();
+        for (PomSectionSorter sorter : ServiceLoader.load(PomSectionSorter.class, getClass().getClassLoader())) {
+            getLog().debug(String.format("Found sorter %s for <%s> element", sorter.getClass().getName(), sorter.getSectionName()));
+            sorters.add(sorter);
+        }
+        return sorters;
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.DomHelper;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * A sorter that sorts the &lt;dependency&gt; elements of the &lt;dependencies&gt; section
+ * and of the &lt;dependencyManagement&gt; section of the project.
+ * The sorting is done alphabetically by groupId, and then by artifactId.
+ * The sections of a &lt;profile&gt; and the &lt;dependencies&gt; of a &lt;plugin&gt; are left unchanged.
+ * <p>
+ * While collecting the elements to sort, this sorter also indexes them by groupId:artifactId:type:classifier
+ * to report duplicate declarations with different versions, and &lt;version&gt; tags of dependencies
+ * that are already managed by &lt;dependencyManagement&gt; in the same POM file, without any extra traversal.
+ * The same pass also fills the {@link ReactorDependencyIndex} of the context, if any.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public class DependenciesSorter implements PomSectionSorter {
+
+    @Override
+    public String getSectionName() {
+        return "dependencies";
+    }
+
+    @Override
+    public boolean sort(Document pomXmlDocument, SortContext context) {
+        final String projectArtifactId = context.getProjectArtifactId();
+        context.getLog().info(String.format("Sorting <dependencies> element for module %s", projectArtifactId));
+        Element projectElement = pomXmlDocument.getDocumentElement();
+        Element managedDependenciesElement = DomHelper.findChildElementByPath(projectElement, "dependencyManagement", "dependencies");
+        Element dependenciesElement = DomHelper.findChildElementByPath(projectElement, "dependencies");
+        if (managedDependenciesElement == null && dependenciesElement == null) {
+            context.getLog().info(String.format("No <dependencies> element found in module %s", projectArtifactId));
+            return false;
+        }
+
+        // The managed versions indexed by coordinate key, filled while sorting <dependencyManagement>
+        Map<String, String> managedVersionIndex = new HashMap<>();
+        boolean changed = false;
+        if (managedDependenciesElement != null) {
+            changed = sortDependencyElement(managedDependenciesElement, managedVersionIndex, true, context);
+        }
+        if (dependenciesElement != null) {
+            changed |= sortDependencyElement(dependenciesElement, managedVersionIndex, false, context);
+        }
+        return changed;
+    }
+
+    /**
+     * Sorts the &lt;dependency&gt; elements of one &lt;dependencies&gt; element and analyzes them in the same pass.
+     * The dependencies of &lt;dependencyManagement&gt; are added to the managed version index,
+     * the other dependencies are checked against it.
+     *
+     * @param dependenciesElement The &lt;dependencies&gt; element to sort.
+     * @param managedVersionIndex The managed versions indexed by coordinate key.
+     * @param managed             Whether the element is the one of &lt;dependencyManagement&gt;.
+     * @param context             The context of the current sorting run.
+     * @return {@code true} if the element was changed, otherwise {@code false}.
+     */
+    private boolean sortDependencyElement(Element dependenciesElement, Map<String, String> managedVersionIndex, boolean managed, SortContext context) {
+        final String projectArtifactId = context.getProjectArtifactId();
+        final String sectionName = managed ? "<dependencyManagement> <dependencies>" : "<dependencies>";
+        if (dependenciesElement.getElementsByTagName("dependency").getLength() == 0) {
+            context.getLog().info(String.format("No <dependency> element found in %s element of module %s", sectionName, projectArtifactId));
+            return false;
+        }
+        if (!hasCoordinates(dependenciesElement, sectionName, context)) {
+            return false;
+        }
+
+        // Collect all dependency elements, grouped by groupId:artifactId and then by coordinate key
+        List<Node> originalChildNodes = DomHelper.getSignificantChildNodesOf(dependenciesElement);
+        NodeList dependenciesElementChildNodes = dependenciesElement.getChildNodes();
+        TreeMap<String, Map<String, Element>> dependencyElementMap = new TreeMap<>();
+        Map<Element, Node> commentsMap = new HashMap<>();
+        ReactorDependencyIndex reactorDependencyIndex = context.getReactorDependencyIndex();
+        boolean changed = false;
+        for (int i = 0, length = dependenciesElementChildNodes.getLength(); i < length; i++) {
+            Node node = dependenciesElementChildNodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                Element element = (Element) node;
+                final String coordinateKey = DomHelper.getDependencyCoordinateKey(element);
+                final String version = DomHelper.getChildElementText(element, "version");
+                Map<String, Element> coordinateElementMap = dependencyElementMap.computeIfAbsent(DomHelper.getElementUniqueKey(element), key -> new LinkedHashMap<>());
+                Element duplicateElement = coordinateElementMap.put(coordinateKey, element);
+                if (duplicateElement != null) {
+                    reportDuplicate(duplicateElement, version, coordinateKey, sectionName, context);
+                }
+                if (reactorDependencyIndex != null && managed) {
+                    reactorDependencyIndex.addManaged(coordinateKey, version, context.getModuleId());
+                } else if (reactorDependencyIndex != null) {
+                    reactorDependencyIndex.add(coordinateKey, version, DomHelper.getChildElementText(element, "scope"), context.getModuleId());
+                }
+                if (managed) {
+                    managedVersionIndex.put(coordinateKey, version);
+                } else {
+                    changed |= checkManagedVersion(element, version, coordinateKey, managedVersionIndex, context);
+                }
+                // Check for comment nodes before the <dependency> element
+                Node commentNode = DomHelper.findCommentNodeOf(element);
+                commentsMap.put(element, commentNode);
+            }
+        }
+
+        // Clear all existing dependencies and append the sorted ones
+        DomHelper.removeAllChildNodesOf(dependenciesElement);
+        int sortedSize = 0;
+        for (Map<String, Element> coordinateElementMap : dependencyElementMap.values()) {
+            for (Element element : coordinateElementMap.values()) {
+                Node commentNode = commentsMap.get(element);
+                if (commentNode != null) {
+                    dependenciesElement.appendChild(commentNode);
+                }
+                dependenciesElement.appendChild(element);
+                sortedSize++;
+            }
+        }
+
+        context.getLog().info(String.format("Sorted %d <dependency> element in %s element for module %s", sortedSize, sectionName, projectArtifactId));
+        context.addSortedElementCount(getSectionName(), sortedSize);
+        return changed || !DomHelper.isSameNodeSequence(originalChildNodes, DomHelper.getSignificantChildNodesOf(dependenciesElement));
+    }
+
+    /**
+     * Checks that every &lt;dependency&gt; element has a groupId and an artifactId, without which it cannot be sorted.
+     * The whole section is left unchanged otherwise, instead of losing or misplacing the element.
+     *
+     * @param dependenciesElement The &lt;dependencies&gt; element to check.
+     * @param sectionName         The name of the section being sorted, used for logging purposes.
+     * @param context             The context of the current sorting run.
+     * @return {@code true} if every &lt;dependency&gt; element has a groupId and an artifactId, otherwise {@code false}.
+     */
+    private boolean hasCoordinates(Element dependenciesElement, String sectionName, SortContext context) {
+        for (Node node = dependenciesElement.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE && DomHelper.getElementUniqueKey((Element) node) == null) {
+                context.getLog().warn(String.format("Skipping %s element of module %s: a <dependency> element has no <groupId> or <artifactId>",
+                    sectionName, context.getProjectArtifactId()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reports a duplicate declaration of the same dependency, only the last declaration is kept.
+     *
+     * @param duplicateElement The element that is replaced by the later declaration.
+     * @param version          The version of the later declaration.
+     * @param coordinateKey    The coordinate key of the dependency.
+     * @param sectionName      The name of the section being sorted, used for logging purposes.
+     * @param context          The context of the current sorting run.
+     */
+    private void reportDuplicate(Element duplicateElement, String version, String coordinateKey, String sectionName, SortContext context) {
+        final String duplicateVersion = DomHelper.getChildElementText(duplicateElement, "version");
+        if (Objects.equals(duplicateVersion, version)) {
+            context.getLog().info(String.format("Removing duplicate <dependency> %s in %s element of module %s",
+                coordinateKey, sectionName, context.getProjectArtifactId()));
+        } else {
+            context.getLog().warn(String.format("Conflicting <dependency> %s in %s element of module %s: version %s is discarded, version %s is kept",
+                coordinateKey, sectionName, context.getProjectArtifactId(), duplicateVersion, version));
+        }
+    }
+
+    /**
+     * Checks the &lt;version&gt; of a dependency against &lt;dependencyManagement&gt; of the same POM file.
+     * A version equal to the managed one is redundant and is removed if {@link SortContext#isRemoveManagedVersions()},
+     * a version different from the managed one overrides it and is only reported.
+     *
+     * @param element             The &lt;dependency&gt; element.
+     * @param version             The version of the dependency, or {@code null} if it has no version.
+     * @param coordinateKey       The coordinate key of the dependency.
+     * @param managedVersionIndex The managed versions indexed by coordinate key.
+     * @param context             The context of the current sorting run.
+     * @return {@code true} if the &lt;version&gt; element was removed, otherwise {@code false}.
+     */
+    private boolean checkManagedVersion(Element element, String version, String coordinateKey, Map<String, String> managedVersionIndex, SortContext context) {
+        if (version == null || !managedVersionIndex.containsKey(coordinateKey)) {
+            return false;
+        }
+        final String managedVersion = managedVersionIndex.get(coordinateKey);
+        if (!version.equals(managedVersion)) {
+            context.getLog().warn(String.format("<dependency> %s of module %s overrides managed version %s with version %s",
+                coordinateKey, context.getProjectArtifactId(), managedVersion, version));
+            return false;
+        }
+        if (!context.isRemoveManagedVersions()) {
+            context.getLog().warn(String.format("<dependency> %s of module %s declares version %s which is already managed by <dependencyManagement>",
+                coordinateKey, context.getProjectArtifactId(), version));
+            return false;
+        }
+        context.getLog().info(String.format("Removing managed version %s of <dependency> %s in module %s",
+            version, coordinateKey, context.getProjectArtifactId()));
+        Element versionElement = DomHelper.findChildElement(element, "version");
+        Node previousSibling = versionElement.getPreviousSibling();
+        if (previousSibling != null && previousSibling.getNodeType() == Node.TEXT_NODE && previousSibling.getTextContent().trim().isEmpty()) {
+            element.removeChild(previousSibling);
+        }
+        element.removeChild(versionElement);
+        return true;
+    }
+
+}
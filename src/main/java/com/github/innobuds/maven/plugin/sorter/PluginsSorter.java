@@ -0,0 +1,122 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.DomHelper;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A sorter that sorts the &lt;plugin&gt; elements of the &lt;plugins&gt; section
+ * and of the &lt;pluginManagement&gt; section of the project build.
+ * The sorting is done alphabetically by groupId, and then by artifactId.
+ * The sections of a &lt;profile&gt; are left unchanged.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public class PluginsSorter implements PomSectionSorter {
+
+    @Override
+    public String getSectionName() {
+        return "plugins";
+    }
+
+    @Override
+    public boolean sort(Document pomXmlDocument, SortContext context) {
+        final String projectArtifactId = context.getProjectArtifactId();
+        context.getLog().info(String.format("Sorting <plugins> element for module %s", projectArtifactId));
+        Element projectElement = pomXmlDocument.getDocumentElement();
+        Element managedPluginsElement = DomHelper.findChildElementByPath(projectElement, "build", "pluginManagement", "plugins");
+        Element pluginsElement = DomHelper.findChildElementByPath(projectElement, "build", "plugins");
+        if (managedPluginsElement == null && pluginsElement == null) {
+            context.getLog().info(String.format("No <plugins> element found in module %s", projectArtifactId));
+            return false;
+        }
+
+        boolean changed = false;
+        if (managedPluginsElement != null) {
+            changed = sortPluginElement(managedPluginsElement, "<pluginManagement> <plugins>", context);
+        }
+        if (pluginsElement != null) {
+            changed |= sortPluginElement(pluginsElement, "<plugins>", context);
+        }
+        return changed;
+    }
+
+    /**
+     * Sorts the &lt;plugin&gt; elements of one &lt;plugins&gt; element.
+     *
+     * @param pluginsElement The &lt;plugins&gt; element to sort.
+     * @param sectionName    The name of the section being sorted, used for logging purposes.
+     * @param context        The context of the current sorting run.
+     * @return {@code true} if the element was changed, otherwise {@code false}.
+     */
+    private boolean sortPluginElement(Element pluginsElement, String sectionName, SortContext context) {
+        final String projectArtifactId = context.getProjectArtifactId();
+        if (DomHelper.findChildElement(pluginsElement, "plugin") == null) {
+            context.getLog().info(String.format("No <plugin> element found in %s element of module %s", sectionName, projectArtifactId));
+            return false;
+        }
+        if (!hasCoordinates(pluginsElement, sectionName, context)) {
+            return false;
+        }
+
+        // Collect all plugin elements
+        List<Node> originalChildNodes = DomHelper.getSignificantChildNodesOf(pluginsElement);
+        NodeList pluginsElementChildNodes = pluginsElement.getChildNodes();
+        TreeMap<String, Element> pluginElementMap = new TreeMap<>();
+        Map<String, Node> commentsMap = new HashMap<>();
+        for (int i = 0, length = pluginsElementChildNodes.getLength(); i < length; i++) {
+            Node node = pluginsElementChildNodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                Element element = (Element) node;
+                final String elementUniqueKey = DomHelper.getElementUniqueKey(element);
+                pluginElementMap.put(elementUniqueKey, element);
+                // Check for comment nodes before the <plugin> element
+                Node commentNode = DomHelper.findCommentNodeOf(element);
+                commentsMap.put(elementUniqueKey, commentNode);
+            }
+        }
+
+        // Clear all existing plugins and append the sorted ones
+        DomHelper.removeAllChildNodesOf(pluginsElement);
+        pluginElementMap.forEach((elementUniqueKey, element) -> {
+            Node commentNode = commentsMap.get(elementUniqueKey);
+            if (commentNode != null) {
+                pluginsElement.appendChild(commentNode);
+            }
+            pluginsElement.appendChild(element);
+        });
+
+        context.getLog().info(String.format("Sorted %d <plugin> element in %s element for module %s", pluginElementMap.size(), sectionName, projectArtifactId));
+        context.addSortedElementCount(getSectionName(), pluginElementMap.size());
+        return !DomHelper.isSameNodeSequence(originalChildNodes, DomHelper.getSignificantChildNodesOf(pluginsElement));
+    }
+
+    /**
+     * Checks that every &lt;plugin&gt; element has an artifactId, without which it cannot be sorted.
+     * The whole section is left unchanged otherwise, instead of losing or misplacing the element.
+     *
+     * @param pluginsElement The &lt;plugins&gt; element to check.
+     * @param sectionName    The name of the section being sorted, used for logging purposes.
+     * @param context        The context of the current sorting run.
+     * @return {@code true} if every &lt;plugin&gt; element has an artifactId, otherwise {@code false}.
+     */
+    private boolean hasCoordinates(Element pluginsElement, String sectionName, SortContext context) {
+        for (Node node = pluginsElement.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE && DomHelper.getElementUniqueKey((Element) node) == null) {
+                context.getLog().warn(String.format("Skipping %s element of module %s: a <plugin> element has no <artifactId>",
+                    sectionName, context.getProjectArtifactId()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
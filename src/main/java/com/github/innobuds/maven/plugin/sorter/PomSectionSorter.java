@@ -0,0 +1,37 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import org.w3c.dom.Document;
+
+/**
+ * Service provider interface for sorting one section of a POM file.
+ * Implementations are discovered through {@link java.util.ServiceLoader}, so a custom sorter can be registered
+ * by listing it in {@code META-INF/services/com.github.innobuds.maven.plugin.sorter.PomSectionSorter}
+ * and adding its jar to the plugin dependencies.
+ * The host parses the POM file once, runs every sorter against the same {@link Document}
+ * and writes the POM file back only once, and only if at least one sorter reports a change.
+ * Implementations must be stateless, the same instance may be used for many documents.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public interface PomSectionSorter {
+
+    /**
+     * Returns the name of the section handled by this sorter, such as {@code dependencies}.
+     * The name is used for logging and for selecting sorters.
+     *
+     * @return The name of the section handled by this sorter.
+     */
+    String getSectionName();
+
+    /**
+     * Sorts the section handled by this sorter in the given POM document.
+     * The document is modified in place.
+     *
+     * @param pomXmlDocument The parsed POM document shared by all sorters.
+     * @param context        The context of the current sorting run.
+     * @return {@code true} if the document was changed by this sorter, otherwise {@code false}.
+     */
+    boolean sort(Document pomXmlDocument, SortContext context);
+
+}
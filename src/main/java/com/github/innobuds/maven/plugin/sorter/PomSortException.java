@@ -0,0 +1,26 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+/**
+ * Thrown by {@link PomSorter} when a POM content cannot be read, parsed or serialized.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public class PomSortException extends Exception {
+
+    /**
+     * The serialization version of this exception.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message The detail message.
+     * @param cause   The cause of the failure.
+     */
+    public PomSortException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
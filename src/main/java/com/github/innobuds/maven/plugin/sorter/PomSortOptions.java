@@ -0,0 +1,136 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.XmlFormat;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * The options of one {@link PomSorter} call.
+ * Instances are immutable and can be shared between threads, each {@code with} method returns a modified copy.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class PomSortOptions {
+
+    /**
+     * The default options, the format is detected from the content and nothing is logged.
+     */
+    public static final PomSortOptions DEFAULT = new PomSortOptions("pom.xml", false, null, SilentLogger.INSTANCE);
+
+    /**
+     * The name of the sorted module, used for logging purposes.
+     */
+    private final String moduleName;
+
+    /**
+     * Whether to remove the &lt;version&gt; of dependencies that are already managed by &lt;dependencyManagement&gt;.
+     */
+    private final boolean removeManagedVersions;
+
+    /**
+     * The format to write the sorted content with, or {@code null} to detect it from the content.
+     */
+    @Nullable
+    private final XmlFormat format;
+
+    /**
+     * The logger passed to the sorters.
+     */
+    private final SortLogger log;
+
+    /**
+     * Creates new options.
+     *
+     * @param moduleName            The name of the sorted module.
+     * @param removeManagedVersions Whether to remove the versions already managed by &lt;dependencyManagement&gt;.
+     * @param format                The format to write the sorted content with, or {@code null} to detect it.
+     * @param log                   The logger passed to the sorters.
+     */
+    private PomSortOptions(String moduleName, boolean removeManagedVersions, @Nullable XmlFormat format, SortLogger log) {
+        this.moduleName = Objects.requireNonNull(moduleName, "moduleName");
+        this.removeManagedVersions = removeManagedVersions;
+        this.format = format;
+        this.log = Objects.requireNonNull(log, "log");
+    }
+
+    /**
+     * Returns a copy of these options with the given module name.
+     *
+     * @param moduleName The name of the sorted module, used for logging purposes.
+     * @return The modified copy of these options.
+     */
+    public PomSortOptions withModuleName(String moduleName) {
+        return new PomSortOptions(moduleName, removeManagedVersions, format, log);
+    }
+
+    /**
+     * Returns a copy of these options with the given removal of managed versions.
+     *
+     * @param removeManagedVersions Whether to remove the &lt;version&gt; of dependencies that are already managed
+     *                              with the same version by &lt;dependencyManagement&gt; in the same POM content.
+     * @return The modified copy of these options.
+     */
+    public PomSortOptions withRemoveManagedVersions(boolean removeManagedVersions) {
+        return new PomSortOptions(moduleName, removeManagedVersions, format, log);
+    }
+
+    /**
+     * Returns a copy of these options with the given format.
+     *
+     * @param format The format to write the sorted content with, or {@code null} to detect it from the content.
+     * @return The modified copy of these options.
+     */
+    public PomSortOptions withFormat(@Nullable XmlFormat format) {
+        return new PomSortOptions(moduleName, removeManagedVersions, format, log);
+    }
+
+    /**
+     * Returns a copy of these options with the given logger.
+     *
+     * @param log The logger passed to the sorters, it must be thread-safe if the options are shared between threads.
+     * @return The modified copy of these options.
+     */
+    public PomSortOptions withLog(SortLogger log) {
+        return new PomSortOptions(moduleName, removeManagedVersions, format, log);
+    }
+
+    /**
+     * Returns the name of the sorted module, used for logging purposes.
+     *
+     * @return The name of the sorted module.
+     */
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    /**
+     * Returns whether to remove the &lt;version&gt; of dependencies that are already managed by &lt;dependencyManagement&gt;.
+     *
+     * @return {@code true} if the redundant versions should be removed, otherwise {@code false}.
+     */
+    public boolean isRemoveManagedVersions() {
+        return removeManagedVersions;
+    }
+
+    /**
+     * Returns the format to write the sorted content with.
+     *
+     * @return The format to write the sorted content with, or {@code null} to detect it from the content.
+     */
+    @Nullable
+    public XmlFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the logger passed to the sorters.
+     *
+     * @return The logger passed to the sorters.
+     */
+    public SortLogger getLog() {
+        return log;
+    }
+
+}
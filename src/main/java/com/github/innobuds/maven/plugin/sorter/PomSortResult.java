@@ -0,0 +1,181 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.XmlFormat;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * The result of one {@link PomSorter} call: the sorted content, whether it differs from the input,
+ * and what each sorter did.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class PomSortResult {
+
+    /**
+     * The sorted content, encoded with {@link #charset}.
+     */
+    private final byte[] content;
+
+    /**
+     * The charset declared by the XML declaration of the content, UTF-8 if it declares none.
+     */
+    private final Charset charset;
+
+    /**
+     * Whether the sorted content differs from the input.
+     */
+    private final boolean changed;
+
+    /**
+     * The format the sorted content is written with.
+     */
+    private final XmlFormat format;
+
+    /**
+     * The statistics of each section, in the order the sorters ran.
+     */
+    private final List<SectionStats> sectionStats;
+
+    /**
+     * What one sorter did to its section.
+     */
+    public static final class SectionStats {
+        /**
+         * The name of the section.
+         */
+        private final String sectionName;
+
+        /**
+         * The number of elements sorted in the section.
+         */
+        private final int sortedElementCount;
+
+        /**
+         * Whether the sorter changed the section.
+         */
+        private final boolean changed;
+
+        /**
+         * Creates new section statistics.
+         *
+         * @param sectionName        The name of the section.
+         * @param sortedElementCount The number of elements sorted in the section.
+         * @param changed            Whether the sorter changed the section.
+         */
+        SectionStats(String sectionName, int sortedElementCount, boolean changed) {
+            this.sectionName = sectionName;
+            this.sortedElementCount = sortedElementCount;
+            this.changed = changed;
+        }
+
+        /**
+         * Returns the name of the section, as returned by {@link PomSectionSorter#getSectionName()}.
+         *
+         * @return The name of the section.
+         */
+        public String getSectionName() {
+            return sectionName;
+        }
+
+        /**
+         * Returns the number of elements sorted in the section, {@code 0} if the section does not exist.
+         *
+         * @return The number of elements sorted in the section.
+         */
+        public int getSortedElementCount() {
+            return sortedElementCount;
+        }
+
+        /**
+         * Returns whether the sorter changed the section, such as reordering or removing elements.
+         *
+         * @return {@code true} if the section was changed, otherwise {@code false}.
+         */
+        public boolean isChanged() {
+            return changed;
+        }
+
+        @Override
+        public String toString() {
+            return "SectionStats{sectionName='" + sectionName + "', sortedElementCount=" + sortedElementCount + ", changed=" + changed + "}";
+        }
+    }
+
+    /**
+     * Creates a new result.
+     *
+     * @param content      The sorted content, encoded with the given charset.
+     * @param charset      The charset declared by the XML declaration of the content.
+     * @param changed      Whether the sorted content differs from the input.
+     * @param format       The format the sorted content is written with.
+     * @param sectionStats The statistics of each section.
+     */
+    PomSortResult(byte[] content, Charset charset, boolean changed, XmlFormat format, List<SectionStats> sectionStats) {
+        this.content = content;
+        this.charset = charset;
+        this.changed = changed;
+        this.format = format;
+        this.sectionStats = sectionStats;
+    }
+
+    /**
+     * Returns the sorted content, encoded with the charset declared by its XML declaration, see {@link #getCharset()},
+     * the same as the input content.
+     * When nothing changed, this is the input array itself, the returned array must not be modified.
+     *
+     * @return The sorted content.
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the charset the sorted content is encoded with,
+     * the one declared by the XML declaration of the content, UTF-8 if it declares none.
+     *
+     * @return The charset of the sorted content.
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Returns the sorted content as a string, decoded with {@link #getCharset()}.
+     *
+     * @return The sorted content.
+     */
+    public String getContentAsString() {
+        return new String(content, charset);
+    }
+
+    /**
+     * Returns whether the sorted content differs from the input, so the POM file needs to be written.
+     *
+     * @return {@code true} if the sorted content differs from the input, otherwise {@code false}.
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Returns the format the sorted content is written with.
+     *
+     * @return The format the sorted content is written with.
+     */
+    public XmlFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the statistics of each section, in the order the sorters ran.
+     *
+     * @return The unmodifiable statistics of each section.
+     */
+    public List<SectionStats> getSectionStats() {
+        return sectionStats;
+    }
+
+}
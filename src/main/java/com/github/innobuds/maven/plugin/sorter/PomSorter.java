@@ -0,0 +1,174 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.XmlFormat;
+import com.github.innobuds.maven.plugin.util.XmlFormatHelper;
+import com.github.innobuds.maven.plugin.util.XmlHelper;
+import org.w3c.dom.Document;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sorts POM content held in memory, without Maven and without touching the filesystem,
+ * for tools embedding the sorting such as code review bots and IDE integrations.
+ * <pre>
+ * PomSorter pomSorter = PomSorter.withRegisteredSorters();
+ * PomSortResult result = pomSorter.sort(pomContent, PomSortOptions.DEFAULT.withRemoveManagedVersions(true));
+ * if (result.isChanged()) {
+ *     // result.getContent() is the sorted POM content
+ * }
+ * </pre>
+ * The content is parsed once, every sorter runs against the same document, and the document is serialized
+ * only if a sorter changed it. The sorters are stateless and every call gets its own XML parser,
+ * so one instance is reusable and can serve any number of concurrent calls.
+ * <p>
+ * The API does not depend on Maven, the sorters report to a {@link SortLogger} and failures are thrown as {@link PomSortException}.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class PomSorter {
+
+    /**
+     * The sorters to run, in order.
+     */
+    private final List<PomSectionSorter> sorters;
+
+    /**
+     * The pattern of the encoding declared by the XML declaration at the start of POM content held as characters.
+     */
+    private static final Pattern DECLARED_ENCODING_PATTERN = Pattern.compile("\\uFEFF?<\\?xml\\s[^>]*?encoding\\s*=\\s*[\"']([^\"']+)[\"']");
+
+    /**
+     * Creates a new POM sorter.
+     *
+     * @param sorters The sorters to run, in order, they must be stateless.
+     */
+    public PomSorter(List<PomSectionSorter> sorters) {
+        this.sorters = Collections.unmodifiableList(new ArrayList<>(sorters));
+    }
+
+    /**
+     * Creates a POM sorter running all {@link PomSectionSorter} implementations registered through {@link ServiceLoader},
+     * the same as the {@code sort} goal.
+     *
+     * @return A POM sorter running all registered sorters.
+     */
+    public static PomSorter withRegisteredSorters() {
+        List<PomSectionSorter> sorters = new ArrayList<>();
+        ServiceLoader.load(PomSectionSorter.class, PomSorter.class.getClassLoader()).forEach(sorters::add);
+        return new PomSorter(sorters);
+    }
+
+    /**
+     * Returns the sorters run by this POM sorter, in order.
+     *
+     * @return The unmodifiable list of sorters.
+     */
+    public List<PomSectionSorter> getSorters() {
+        return sorters;
+    }
+
+    /**
+     * Sorts POM content.
+     *
+     * @param pomContent The POM content, encoded as declared by its XML declaration, UTF-8 by default.
+     * @param options    The options of this call.
+     * @return The result of the sorting.
+     * @throws PomSortException If the POM content cannot be parsed or serialized.
+     */
+    public PomSortResult sort(byte[] pomContent, PomSortOptions options) throws PomSortException {
+        SortContext context = new SortContext(options.getModuleName(), options.getLog());
+        context.setRemoveManagedVersions(options.isRemoveManagedVersions());
+        return sort(pomContent, options.getFormat(), context);
+    }
+
+    /**
+     * Sorts POM content held as characters, which is encoded before parsing with the charset its XML declaration declares,
+     * UTF-8 by default, so {@link PomSortResult#getContentAsString()} gives back the sorted characters.
+     *
+     * @param pomContent The POM content.
+     * @param options    The options of this call.
+     * @return The result of the sorting.
+     * @throws PomSortException If the POM content cannot be encoded, parsed or serialized.
+     */
+    public PomSortResult sort(CharSequence pomContent, PomSortOptions options) throws PomSortException {
+        final String content = pomContent.toString();
+        Matcher matcher = DECLARED_ENCODING_PATTERN.matcher(content);
+        try {
+            final Charset charset = matcher.lookingAt() ? Charset.forName(matcher.group(1)) : StandardCharsets.UTF_8;
+            return sort(content.getBytes(charset), options);
+        } catch (IllegalArgumentException e) {
+            throw new PomSortException("Error parsing pom.xml: unsupported encoding " + matcher.group(1), e);
+        }
+    }
+
+    /**
+     * Sorts POM content read from a stream, the stream is read to the end but not closed.
+     *
+     * @param pomContent The stream of the POM content, encoded as declared by its XML declaration, UTF-8 by default.
+     * @param options    The options of this call.
+     * @return The result of the sorting.
+     * @throws PomSortException If the POM content cannot be read, parsed or serialized.
+     */
+    public PomSortResult sort(InputStream pomContent, PomSortOptions options) throws PomSortException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192);
+        byte[] buffer = new byte[8192];
+        try {
+            int length;
+            while ((length = pomContent.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+        } catch (IOException e) {
+            throw new PomSortException("Error reading pom.xml: " + e.getMessage(), e);
+        }
+        return sort(outputStream.toByteArray(), options);
+    }
+
+    /**
+     * Sorts POM content with a context prepared by the caller, such as the Maven plugin goals,
+     * whose context also carries the reactor wide dependency index.
+     *
+     * @param pomContent The POM content, encoded as declared by its XML declaration, UTF-8 by default.
+     * @param format     The format to write the sorted content with, or {@code null} to detect it from the content.
+     * @param context    The context of this sorting run, it records the sorted element counts.
+     * @return The result of the sorting.
+     * @throws PomSortException If the POM content cannot be parsed, sorted or serialized.
+     */
+    public PomSortResult sort(byte[] pomContent, @Nullable XmlFormat format, SortContext context) throws PomSortException {
+        final XmlFormat pomFormat = format == null ? XmlFormatHelper.detect(pomContent) : format;
+        try {
+            Document pomXmlDocument = XmlHelper.parse(pomContent);
+            boolean changed = false;
+            List<PomSortResult.SectionStats> sectionStats = new ArrayList<>(sorters.size());
+            for (PomSectionSorter sorter : sorters) {
+                final int sortedElementCount = context.getSortedElementCount(sorter.getSectionName());
+                final boolean sectionChanged = sorter.sort(pomXmlDocument, context);
+                sectionStats.add(new PomSortResult.SectionStats(sorter.getSectionName(),
+                    context.getSortedElementCount(sorter.getSectionName()) - sortedElementCount, sectionChanged));
+                changed |= sectionChanged;
+            }
+            final byte[] sortedPomContent = changed ? XmlHelper.serialize(pomXmlDocument, pomFormat) : pomContent;
+            final boolean contentChanged = !Arrays.equals(sortedPomContent, pomContent);
+            return new PomSortResult(contentChanged ? sortedPomContent : pomContent, XmlHelper.getCharset(pomXmlDocument),
+                contentChanged, pomFormat, Collections.unmodifiableList(sectionStats));
+        } catch (IOException e) {
+            throw new PomSortException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            // A failing sorter, built-in or registered, must not escape as an unchecked exception
+            throw new PomSortException("Error sorting pom.xml: " + e, e);
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.DomHelper;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A sorter that sorts the child elements of the &lt;properties&gt; section of the project.
+ * The sorting is done alphabetically by element's tag name, grouped by maven plugin versions and dependency versions.
+ * The &lt;properties&gt; of a &lt;profile&gt; are left unchanged.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public class PropertiesSorter implements PomSectionSorter {
+
+    /**
+     * Default comment for maven plugin versions.
+     */
+    public static final String MAVEN_PLUGIN_VERSION_COMMENT = "==================== maven plugin versions ====================";
+
+    /**
+     * Default comment for dependency versions.
+     */
+    public static final String DEPENDENCY_VERSION_COMMENT = "==================== dependency versions ======================";
+
+    @Override
+    public String getSectionName() {
+        return "properties";
+    }
+
+    @Override
+    public boolean sort(Document pomXmlDocument, SortContext context) {
+        final String projectArtifactId = context.getProjectArtifactId();
+        context.getLog().info(String.format("Sorting <properties> element for module %s", projectArtifactId));
+        Element propertiesElement = DomHelper.findChildElementByPath(pomXmlDocument.getDocumentElement(), "properties");
+        if (propertiesElement == null) {
+            context.getLog().info(String.format("No <properties> element found in module %s", projectArtifactId));
+            return false;
+        }
+
+        NodeList childNodes = propertiesElement.getChildNodes();
+        if (childNodes.getLength() == 0) {
+            context.getLog().info(String.format("No child elements found in <properties> element for module %s", projectArtifactId));
+            return false;
+        }
+
+        // Collect and group all the properties elements
+        List<Node> originalChildNodes = DomHelper.getSignificantChildNodesOf(propertiesElement);
+        ChildNodeGroup childNodeGroup = groupingPropertiesChildNodes(context, childNodes);
+
+        // Clear all existing properties and re-arrange them
+        DomHelper.removeAllChildNodesOf(propertiesElement);
+
+        childNodeGroup.skippedElementCommentMap.forEach((elementTagName, commentNode) -> {
+            if (commentNode != null) {
+                propertiesElement.appendChild(commentNode);
+            }
+            propertiesElement.appendChild(childNodeGroup.skippedElementMap.get(elementTagName));
+        });
+
+        if (!childNodeGroup.mavenPluginVersionElementCommentMap.isEmpty()) {
+            propertiesElement.appendChild(pomXmlDocument.createComment(MAVEN_PLUGIN_VERSION_COMMENT));
+        }
+        childNodeGroup.mavenPluginVersionElementCommentMap.forEach((elementTagName, commentNode) -> {
+            if (commentNode != null && !commentNode.getTextContent().trim().equals(MAVEN_PLUGIN_VERSION_COMMENT)) {
+                propertiesElement.appendChild(commentNode);
+            }
+            propertiesElement.appendChild(childNodeGroup.mavenPluginVersionElementMap.get(elementTagName));
+        });
+
+        if (!childNodeGroup.dependencyVersionElementCommentMap.isEmpty()) {
+            propertiesElement.appendChild(pomXmlDocument.createComment(DEPENDENCY_VERSION_COMMENT));
+        }
+        childNodeGroup.dependencyVersionElementCommentMap.forEach((elementTagName, commentNode) -> {
+            if (commentNode != null && !commentNode.getTextContent().trim().equals(DEPENDENCY_VERSION_COMMENT)) {
+                propertiesElement.appendChild(commentNode);
+            }
+            propertiesElement.appendChild(childNodeGroup.dependencyVersionElementMap.get(elementTagName));
+        });
+
+        final int sortedSize = childNodeGroup.mavenPluginVersionElementCommentMap.size() + childNodeGroup.dependencyVersionElementCommentMap.size();
+        context.getLog().info(String.format("Sorted %d <properties> element for module %s", sortedSize, projectArtifactId));
+        context.addSortedElementCount(getSectionName(), sortedSize);
+        return !DomHelper.isSameNodeSequence(originalChildNodes, DomHelper.getSignificantChildNodesOf(propertiesElement));
+    }
+
+    /**
+     * The child node group for properties element.
+     */
+    private static class ChildNodeGroup {
+        /**
+         * The map to store skipped element comments.
+         */
+        Map<String, Node> skippedElementCommentMap = new LinkedHashMap<>();
+
+        /**
+         * The map to store maven plugin version element comments.
+         */
+        Map<String, Node> dependencyVersionElementCommentMap = new TreeMap<>();
+
+        /**
+         * The map to store dependency version element comments.
+         */
+        Map<String, Node> mavenPluginVersionElementCommentMap = new TreeMap<>();
+
+        /**
+         * The map to store skipped elements.
+         */
+        Map<String, Element> skippedElementMap = new LinkedHashMap<>();
+
+        /**
+         * The map to store maven plugin version elements.
+         */
+        Map<String, Element> dependencyVersionElementMap = new TreeMap<>();
+
+        /**
+         * The map to store dependency version elements.
+         */
+        Map<String, Element> mavenPluginVersionElementMap = new TreeMap<>();
+    }
+
+    /**
+     * Grouping properties child nodes by their prefix or suffix.
+     * For reducing the Cognitive Complexity of the method {@link #sort(Document, SortContext)}.
+     *
+     * @param context    The context of the current sorting run, used for logging purposes.
+     * @param childNodes The child nodes of the properties element.
+     * @return The child node group object that stores the grouped child nodes.
+     */
+    private ChildNodeGroup groupingPropertiesChildNodes(SortContext context, NodeList childNodes) {
+        ChildNodeGroup childNodeGroup = new ChildNodeGroup();
+        for (int i = 0, length = childNodes.getLength(); i < length; i++) {
+            Node node = childNodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                Element element = (Element) node;
+                final String elementTagName = element.getTagName();
+                // Skip elements that are not version properties or we don't want to sort
+                if (!elementTagName.endsWith(".version") || elementTagName.equals("java.version") || elementTagName.equals("kotlin.version")) {
+                    context.getLog().info(String.format("Skipping element %s in <properties> element for module %s", elementTagName, context.getProjectArtifactId()));
+                    Node commentNode = DomHelper.findCommentNodeOf(element);
+                    childNodeGroup.skippedElementCommentMap.put(elementTagName, commentNode);
+                    childNodeGroup.skippedElementMap.put(elementTagName, element);
+                    continue;
+                }
+                // Group elements by their prefix or suffix
+                Node commentNode = DomHelper.findCommentNodeOf(element);
+                if (elementTagName.startsWith("maven-") || elementTagName.endsWith("-maven-plugin.version")) {
+                    childNodeGroup.mavenPluginVersionElementCommentMap.put(elementTagName, commentNode);
+                    childNodeGroup.mavenPluginVersionElementMap.put(elementTagName, element);
+                } else {
+                    childNodeGroup.dependencyVersionElementCommentMap.put(elementTagName, commentNode);
+                    childNodeGroup.dependencyVersionElementMap.put(elementTagName, element);
+                }
+            }
+        }
+        return childNodeGroup;
+    }
+
+}
@@ -0,0 +1,244 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A reactor wide index of the dependency declarations found while sorting the modules of a build.
+ * It maps every groupId:artifactId:type:classifier coordinate to the versions and scopes it is declared with,
+ * and to the modules declaring them, so inconsistencies across modules can be reported once all modules are sorted.
+ * <p>
+ * The index is filled concurrently by the modules of a parallel build.
+ * All the strings stored in it are interned in a table owned by the index,
+ * so hundreds of thousands of declarations only keep one copy of each coordinate, version, scope and module name.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public class ReactorDependencyIndex {
+
+    /**
+     * The default scope of a dependency without &lt;scope&gt;.
+     */
+    private static final String DEFAULT_SCOPE = "compile";
+
+    /**
+     * The indexes of the running builds, weakly keyed by the object identifying the build, and then by name.
+     */
+    private static final Map<Object, ConcurrentMap<String, ReactorDependencyIndex>> SESSION_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The intern table of all the strings stored in this index.
+     */
+    private final ConcurrentMap<String, String> internTable = new ConcurrentHashMap<>();
+
+    /**
+     * The declarations indexed by coordinate key.
+     */
+    private final ConcurrentMap<String, Declarations> coordinateIndex = new ConcurrentHashMap<>();
+
+    /**
+     * The modules that have been indexed.
+     */
+    private final Set<String> indexedModules = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether the inconsistencies of this index have been reported.
+     */
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    /**
+     * Returns the index of the given name shared by all modules of the given build session, creating it if needed.
+     * The key must be the same object for all modules of the build, even in parallel builds.
+     * A build running several goals that fill an index gives each goal its own index by name,
+     * so the declarations of a module are never counted twice and each goal reports once it has sorted all its modules.
+     *
+     * @param buildSession The object identifying the build, such as the Maven execution request.
+     * @param name         The name of the index in the build, such as the goal filling it.
+     * @return The index of the given name of the build session.
+     */
+    public static ReactorDependencyIndex of(Object buildSession, String name) {
+        return SESSION_INDEXES.computeIfAbsent(buildSession, session -> new ConcurrentHashMap<>())
+            .computeIfAbsent(name, key -> new ReactorDependencyIndex());
+    }
+
+    /**
+     * The versions and scopes a coordinate is declared with, each mapped to the declaring modules.
+     */
+    private static class Declarations {
+        /**
+         * The declaring modules indexed by version.
+         */
+        final ConcurrentMap<String, Set<String>> versionModules = new ConcurrentHashMap<>();
+
+        /**
+         * The declaring modules indexed by scope.
+         */
+        final ConcurrentMap<String, Set<String>> scopeModules = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adds a dependency declaration to the index.
+     *
+     * @param coordinateKey The groupId:artifactId:type:classifier coordinate key of the dependency.
+     * @param version       The declared version, or {@code null} if the version is managed elsewhere.
+     * @param scope         The declared scope, or {@code null} for the default scope.
+     * @param module        The module declaring the dependency.
+     */
+    public void add(String coordinateKey, String version, String scope, String module) {
+        final String internedModule = intern(module);
+        Declarations declarations = addVersion(coordinateKey, version, internedModule);
+        final String internedScope = scope == null ? DEFAULT_SCOPE : intern(scope);
+        declarations.scopeModules.computeIfAbsent(internedScope, key -> ConcurrentHashMap.newKeySet()).add(internedModule);
+    }
+
+    /**
+     * Adds a managed dependency declaration of &lt;dependencyManagement&gt; to the index.
+     * Only its version is recorded: a managed declaration without &lt;scope&gt; does not mean the default scope,
+     * it leaves the scope to the modules using it, such as a managed test library used with the test scope.
+     *
+     * @param coordinateKey The groupId:artifactId:type:classifier coordinate key of the dependency.
+     * @param version       The managed version, or {@code null} if the version is managed elsewhere.
+     * @param module        The module declaring the dependency.
+     */
+    public void addManaged(String coordinateKey, String version, String module) {
+        addVersion(coordinateKey, version, intern(module));
+    }
+
+    /**
+     * Records the version a coordinate is declared with by a module.
+     *
+     * @param coordinateKey  The groupId:artifactId:type:classifier coordinate key of the dependency.
+     * @param version        The declared version, or {@code null} if the version is managed elsewhere.
+     * @param internedModule The interned module declaring the dependency.
+     * @return The declarations of the coordinate.
+     */
+    private Declarations addVersion(String coordinateKey, String version, String internedModule) {
+        Declarations declarations = coordinateIndex.computeIfAbsent(intern(coordinateKey), key -> new Declarations());
+        if (version != null) {
+            declarations.versionModules.computeIfAbsent(intern(version), key -> ConcurrentHashMap.newKeySet()).add(internedModule);
+        }
+        return declarations;
+    }
+
+    /**
+     * Marks a module as indexed.
+     *
+     * @param module The module that has been indexed.
+     * @return The number of modules indexed so far.
+     */
+    public int markIndexed(String module) {
+        indexedModules.add(intern(module));
+        return indexedModules.size();
+    }
+
+    /**
+     * Checks whether all the given modules have been indexed.
+     *
+     * @param modules The modules expected in this index.
+     * @return {@code true} if all the given modules have been indexed, otherwise {@code false}.
+     */
+    public boolean isIndexed(Collection<String> modules) {
+        return indexedModules.containsAll(modules);
+    }
+
+    /**
+     * Marks this index as reported, so the inconsistencies are reported only once per build.
+     *
+     * @return {@code true} if this index has not been reported before, otherwise {@code false}.
+     */
+    public boolean markReported() {
+        return reported.compareAndSet(false, true);
+    }
+
+    /**
+     * Returns the number of distinct coordinates in this index.
+     *
+     * @return The number of distinct coordinates in this index.
+     */
+    public int size() {
+        return coordinateIndex.size();
+    }
+
+    /**
+     * Finds the coordinates declared with different versions or scopes in different modules.
+     *
+     * @return The human-readable descriptions of the inconsistencies, sorted by coordinate.
+     */
+    public List<String> findInconsistencies() {
+        List<String> inconsistencies = new ArrayList<>();
+        new TreeMap<>(coordinateIndex).forEach((coordinateKey, declarations) -> {
+            if (declarations.versionModules.size() > 1) {
+                inconsistencies.add(String.format("%s is declared with different versions: %s", coordinateKey, describe(declarations.versionModules)));
+            }
+            if (declarations.scopeModules.size() > 1) {
+                inconsistencies.add(String.format("%s is declared with different scopes: %s", coordinateKey, describe(declarations.scopeModules)));
+            }
+        });
+        return inconsistencies;
+    }
+
+    /**
+     * Finds the hard-coded versions of coordinates declared in more than one module,
+     * which should rather be defined once in a property or in &lt;dependencyManagement&gt;.
+     *
+     * @return The human-readable descriptions of the hard-coded versions, sorted by coordinate.
+     */
+    public List<String> findHardCodedVersions() {
+        List<String> hardCodedVersions = new ArrayList<>();
+        new TreeMap<>(coordinateIndex).forEach((coordinateKey, declarations) -> {
+            Set<String> declaringModules = new TreeSet<>();
+            Map<String, Set<String>> hardCodedVersionModules = new TreeMap<>();
+            declarations.versionModules.forEach((version, modules) -> {
+                declaringModules.addAll(modules);
+                if (!version.contains("${")) {
+                    hardCodedVersionModules.put(version, modules);
+                }
+            });
+            if (declaringModules.size() > 1 && !hardCodedVersionModules.isEmpty()) {
+                hardCodedVersions.add(String.format("%s has hard-coded version %s, consider defining it in a property",
+                    coordinateKey, describe(hardCodedVersionModules)));
+            }
+        });
+        return hardCodedVersions;
+    }
+
+    /**
+     * Interns a string in the intern table of this index.
+     *
+     * @param value The string to intern.
+     * @return The canonical instance of the string.
+     */
+    private String intern(String value) {
+        final String internedValue = internTable.putIfAbsent(value, value);
+        return internedValue == null ? value : internedValue;
+    }
+
+    /**
+     * Describes the modules declaring each value, such as {@code 1.0 (module-a, module-b), 2.0 (module-c)}.
+     *
+     * @param valueModules The declaring modules indexed by value.
+     * @return The description of the declaring modules.
+     */
+    private static String describe(Map<String, Set<String>> valueModules) {
+        StringBuilder description = new StringBuilder();
+        new TreeMap<>(valueModules).forEach((value, modules) -> {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(value).append(" (").append(String.join(", ", new TreeSet<>(modules))).append(')');
+        });
+        return description.toString();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+/**
+ * A logger that discards everything, the default of {@link PomSortOptions} when the caller does not need any report.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+final class SilentLogger implements SortLogger {
+
+    /**
+     * The shared instance, the logger has no state.
+     */
+    static final SilentLogger INSTANCE = new SilentLogger();
+
+    /**
+     * Non-public constructor, use {@link #INSTANCE}.
+     */
+    private SilentLogger() {
+    }
+
+    @Override
+    public void info(String message) {
+        // Discarded
+    }
+
+    @Override
+    public void warn(String message) {
+        // Discarded
+    }
+
+}
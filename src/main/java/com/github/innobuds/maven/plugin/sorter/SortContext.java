@@ -0,0 +1,157 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The context passed to every {@link PomSectionSorter} during one sorting run.
+ * It carries the information about the module being sorted and the logger to report progress,
+ * and records the number of elements sorted in each section.
+ * A context is created for each sorting run and must not be shared between threads.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public class SortContext {
+
+    /**
+     * The artifactId of the module being sorted, used for logging purposes.
+     */
+    private final String projectArtifactId;
+
+    /**
+     * The logger to report progress.
+     */
+    private final SortLogger log;
+
+    /**
+     * The identity of the module being sorted in the reactor wide index.
+     */
+    private String moduleId;
+
+    /**
+     * Whether to remove the &lt;version&gt; of dependencies that are already managed by &lt;dependencyManagement&gt;.
+     */
+    private boolean removeManagedVersions;
+
+    /**
+     * The reactor wide index to fill with the dependency declarations, or {@code null} if it is not needed.
+     */
+    @Nullable
+    private ReactorDependencyIndex reactorDependencyIndex;
+
+    /**
+     * The number of sorted elements indexed by section name, in the order the sections were sorted.
+     */
+    private final Map<String, Integer> sortedElementCounts = new LinkedHashMap<>();
+
+    /**
+     * Creates a new sort context.
+     *
+     * @param projectArtifactId The artifactId of the module being sorted.
+     * @param log               The logger to report progress.
+     */
+    public SortContext(String projectArtifactId, SortLogger log) {
+        this.projectArtifactId = projectArtifactId;
+        this.log = log;
+        this.moduleId = projectArtifactId;
+    }
+
+    /**
+     * Returns the artifactId of the module being sorted.
+     *
+     * @return The artifactId of the module being sorted.
+     */
+    public String getProjectArtifactId() {
+        return projectArtifactId;
+    }
+
+    /**
+     * Returns the identity of the module being sorted in the reactor wide index, its artifactId by default.
+     *
+     * @return The identity of the module being sorted.
+     */
+    public String getModuleId() {
+        return moduleId;
+    }
+
+    /**
+     * Sets the identity of the module being sorted in the reactor wide index.
+     * It must be unique in the reactor, such as the groupId:artifactId of the module.
+     *
+     * @param moduleId The identity of the module being sorted.
+     */
+    public void setModuleId(String moduleId) {
+        this.moduleId = moduleId;
+    }
+
+    /**
+     * Returns the logger to report progress.
+     *
+     * @return The logger to report progress.
+     */
+    public SortLogger getLog() {
+        return log;
+    }
+
+    /**
+     * Returns whether to remove the &lt;version&gt; of dependencies that are already managed
+     * with the same version by &lt;dependencyManagement&gt; in the same POM file.
+     *
+     * @return {@code true} if the redundant versions should be removed, otherwise {@code false}.
+     */
+    public boolean isRemoveManagedVersions() {
+        return removeManagedVersions;
+    }
+
+    /**
+     * Sets whether to remove the &lt;version&gt; of dependencies that are already managed
+     * with the same version by &lt;dependencyManagement&gt; in the same POM file.
+     *
+     * @param removeManagedVersions {@code true} if the redundant versions should be removed.
+     */
+    public void setRemoveManagedVersions(boolean removeManagedVersions) {
+        this.removeManagedVersions = removeManagedVersions;
+    }
+
+    /**
+     * Returns the reactor wide index to fill with the dependency declarations.
+     *
+     * @return The reactor wide index, or {@code null} if the reactor consistency check is disabled.
+     */
+    @Nullable
+    public ReactorDependencyIndex getReactorDependencyIndex() {
+        return reactorDependencyIndex;
+    }
+
+    /**
+     * Sets the reactor wide index to fill with the dependency declarations.
+     *
+     * @param reactorDependencyIndex The reactor wide index, or {@code null} to disable the reactor consistency check.
+     */
+    public void setReactorDependencyIndex(@Nullable ReactorDependencyIndex reactorDependencyIndex) {
+        this.reactorDependencyIndex = reactorDependencyIndex;
+    }
+
+    /**
+     * Records elements sorted by a sorter, the counts of the same section are added up.
+     *
+     * @param sectionName The name of the section, as returned by {@link PomSectionSorter#getSectionName()}.
+     * @param count       The number of sorted elements.
+     */
+    public void addSortedElementCount(String sectionName, int count) {
+        sortedElementCounts.merge(sectionName, count, Integer::sum);
+    }
+
+    /**
+     * Returns the number of elements sorted in a section during this sorting run.
+     *
+     * @param sectionName The name of the section, as returned by {@link PomSectionSorter#getSectionName()}.
+     * @return The number of sorted elements, {@code 0} if the section was not sorted.
+     */
+    public int getSortedElementCount(String sectionName) {
+        return sortedElementCounts.getOrDefault(sectionName, 0);
+    }
+
+}
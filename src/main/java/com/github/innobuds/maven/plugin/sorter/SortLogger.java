@@ -0,0 +1,27 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+/**
+ * The logger the sorters report their progress and findings to.
+ * It keeps the sorting API free of any logging framework: the Maven goals adapt it to the Maven log,
+ * and tools embedding {@link PomSorter} adapt it to whatever they log with.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public interface SortLogger {
+
+    /**
+     * Reports the progress of a sorter.
+     *
+     * @param message The message to report.
+     */
+    void info(String message);
+
+    /**
+     * Reports a finding that needs the attention of the user, such as a conflicting dependency declaration.
+     *
+     * @param message The message to report.
+     */
+    void warn(String message);
+
+}
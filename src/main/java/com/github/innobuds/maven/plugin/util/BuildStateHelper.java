@@ -0,0 +1,91 @@
+package com.github.innobuds.maven.plugin.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility class for recording the state of a sorting execution in the build directory.
+ * The state is the fingerprint of the sorted POM content and of the configuration used to sort it,
+ * so an execution whose inputs match the recorded state is a no-op and can be skipped,
+ * which is what build caches such as the Maven build cache extension rely on.
+ * It is not meant to be instantiated.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class BuildStateHelper {
+
+    /**
+     * Non-public constructor to prevent instantiation of the utility class.
+     * This class should not be instantiated.
+     * package-private access for testing.
+     */
+    BuildStateHelper() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Computes the SHA-256 fingerprint of the POM content and of the configuration used to sort it.
+     *
+     * @param pomContent    The content of the POM file.
+     * @param configuration The description of the configuration used to sort the POM file.
+     * @return The hexadecimal SHA-256 fingerprint.
+     */
+    public static String fingerprint(byte[] pomContent, String configuration) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(configuration.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+            final byte[] digest = messageDigest.digest(pomContent);
+            StringBuilder fingerprint = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                fingerprint.append(String.format("%02x", b));
+            }
+            return fingerprint.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checks whether the given fingerprint matches the one recorded in the state file.
+     *
+     * @param stateFile   The state file.
+     * @param fingerprint The fingerprint of the current inputs.
+     * @return {@code true} if the state file exists and records the same fingerprint, otherwise {@code false}.
+     */
+    public static boolean isUpToDate(File stateFile, String fingerprint) {
+        if (!stateFile.isFile()) {
+            return false;
+        }
+        try {
+            return fingerprint.equals(new String(Files.readAllBytes(stateFile.toPath()), StandardCharsets.UTF_8).trim());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records the given fingerprint in the state file, creating the parent directories if needed.
+     *
+     * @param stateFile   The state file.
+     * @param fingerprint The fingerprint of the sorted POM content and of the configuration.
+     * @throws MojoExecutionException If there is an error during writing the state file.
+     */
+    public static void save(File stateFile, String fingerprint) throws MojoExecutionException {
+        try {
+            Files.createDirectories(stateFile.getParentFile().toPath());
+            Files.write(stateFile.toPath(), fingerprint.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error writing build state: " + e.getMessage(), e);
+        }
+    }
+
+}
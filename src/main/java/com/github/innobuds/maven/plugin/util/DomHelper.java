@@ -2,8 +2,11 @@ package com.github.innobuds.maven.plugin.util;
 
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for working with DOM elements.
@@ -25,17 +28,99 @@ public final class DomHelper {
     }
 
     /**
-     * Returns a unique key for an element based on its groupId and artifactId.
+     * The groupId Maven assumes for a &lt;plugin&gt; that declares none.
+     */
+    public static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins";
+
+    /**
+     * Returns a unique key for an element based on the trimmed text of its direct &lt;groupId&gt; and &lt;artifactId&gt; children.
+     * A &lt;plugin&gt; without &lt;groupId&gt; gets {@link #DEFAULT_PLUGIN_GROUP_ID}, the same as Maven does.
      *
      * @param element The element.
-     * @return A unique key for the element.
+     * @return A unique key for the element, or {@code null} if its groupId or artifactId is missing.
      */
+    @Nullable
     public static String getElementUniqueKey(Element element) {
-        final String groupId = element.getElementsByTagName("groupId").item(0).getTextContent();
-        final String artifactId = element.getElementsByTagName("artifactId").item(0).getTextContent();
+        String groupId = getChildElementText(element, "groupId");
+        if (groupId == null && "plugin".equals(element.getTagName())) {
+            groupId = DEFAULT_PLUGIN_GROUP_ID;
+        }
+        final String artifactId = getChildElementText(element, "artifactId");
+        if (groupId == null || artifactId == null) {
+            return null;
+        }
         return groupId + ":" + artifactId;
     }
 
+    /**
+     * Returns the coordinate key of a &lt;dependency&gt; element based on its direct groupId, artifactId, type and classifier children.
+     * The type defaults to {@code jar} and the classifier defaults to an empty string, the same as Maven does,
+     * so two declarations that Maven treats as the same dependency always get the same key.
+     *
+     * @param element The &lt;dependency&gt; element.
+     * @return The coordinate key of the element, or {@code null} if its groupId or artifactId is missing.
+     */
+    @Nullable
+    public static String getDependencyCoordinateKey(Element element) {
+        final String elementUniqueKey = getElementUniqueKey(element);
+        if (elementUniqueKey == null) {
+            return null;
+        }
+        final String type = getChildElementText(element, "type");
+        final String classifier = getChildElementText(element, "classifier");
+        return elementUniqueKey + ":" + (type == null ? "jar" : type) + ":" + (classifier == null ? "" : classifier);
+    }
+
+    /**
+     * Finds the first direct child element of the given element with the given tag name.
+     * Unlike {@link Element#getElementsByTagName(String)}, this method does not search the descendants,
+     * so the &lt;groupId&gt; of an &lt;exclusion&gt; is never mistaken for the one of its &lt;dependency&gt;.
+     *
+     * @param element The parent element.
+     * @param tagName The tag name of the child element.
+     * @return The first child element with the given tag name, or {@code null} if there is no such element.
+     */
+    @Nullable
+    public static Element findChildElement(Element element, String tagName) {
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE && tagName.equals(node.getNodeName())) {
+                return (Element) node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the element at the given path of direct child elements, starting from the given element.
+     * The POM section sorters use it to find their sections under &lt;project&gt;,
+     * so a section of a &lt;profile&gt; or the &lt;dependencies&gt; of a &lt;plugin&gt; is never mistaken for the project one.
+     *
+     * @param element The element to start from.
+     * @param path    The tag names of the child elements to walk through, in order.
+     * @return The element at the end of the path, or {@code null} if any element of the path is missing.
+     */
+    @Nullable
+    public static Element findChildElementByPath(Element element, String... path) {
+        Element currentElement = element;
+        for (int i = 0; i < path.length && currentElement != null; i++) {
+            currentElement = findChildElement(currentElement, path[i]);
+        }
+        return currentElement;
+    }
+
+    /**
+     * Returns the trimmed text content of the first direct child element with the given tag name.
+     *
+     * @param element The parent element.
+     * @param tagName The tag name of the child element.
+     * @return The trimmed text content of the child element, or {@code null} if there is no such element.
+     */
+    @Nullable
+    public static String getChildElementText(Element element, String tagName) {
+        Element childElement = findChildElement(element, tagName);
+        return childElement == null ? null : childElement.getTextContent().trim();
+    }
+
     /**
      * Finds the comment node that precedes the given element.
      * This method searches for the previous sibling of the element that is a comment node.
@@ -73,4 +158,51 @@ public final class DomHelper {
         }
     }
 
+    /**
+     * Returns the element and comment child nodes of the given element in document order.
+     * Text nodes are ignored because they only carry the indentation that is regenerated when writing.
+     *
+     * @param element The element whose child nodes should be collected.
+     * @return The element and comment child nodes of the element.
+     */
+    public static List<Node> getSignificantChildNodesOf(Element element) {
+        NodeList childNodes = element.getChildNodes();
+        List<Node> significantChildNodes = new ArrayList<>(childNodes.getLength());
+        for (int i = 0, length = childNodes.getLength(); i < length; i++) {
+            Node node = childNodes.item(i);
+            final short nodeType = node.getNodeType();
+            if (nodeType == Node.ELEMENT_NODE || nodeType == Node.COMMENT_NODE) {
+                significantChildNodes.add(node);
+            }
+        }
+        return significantChildNodes;
+    }
+
+    /**
+     * Checks whether two node sequences are the same.
+     * Elements are compared by identity and comments are compared by their text content,
+     * so a comment that has been re-created with the same text is not considered as a change.
+     *
+     * @param nodes      The first node sequence.
+     * @param otherNodes The second node sequence.
+     * @return {@code true} if both sequences are the same, otherwise {@code false}.
+     */
+    public static boolean isSameNodeSequence(List<Node> nodes, List<Node> otherNodes) {
+        if (nodes.size() != otherNodes.size()) {
+            return false;
+        }
+        for (int i = 0, size = nodes.size(); i < size; i++) {
+            Node node = nodes.get(i);
+            Node otherNode = otherNodes.get(i);
+            if (node == otherNode) {
+                continue;
+            }
+            final boolean bothComments = node.getNodeType() == Node.COMMENT_NODE && otherNode.getNodeType() == Node.COMMENT_NODE;
+            if (!bothComments || !node.getTextContent().trim().equals(otherNode.getTextContent().trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
@@ -0,0 +1,228 @@
+package com.github.innobuds.maven.plugin.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A parsed {@code .editorconfig} file, see <a href="https://spec.editorconfig.org">the EditorConfig specification</a>.
+ * Only the parts needed to resolve the properties of a file are kept, the sections with their glob compiled
+ * to a regular expression, in the order they appear in the file.
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+final class EditorConfigFile {
+
+    /**
+     * The file name of an EditorConfig file.
+     */
+    static final String FILE_NAME = ".editorconfig";
+
+    /**
+     * The placeholder of a directory without EditorConfig file.
+     */
+    static final EditorConfigFile NONE = new EditorConfigFile(false, Collections.emptyList());
+
+    /**
+     * The regular expression of a malformed glob, which matches nothing.
+     */
+    private static final Pattern NOTHING = Pattern.compile("(?!)");
+
+    /**
+     * Whether the file is the top-most one, so the parent directories are not searched.
+     */
+    private final boolean root;
+
+    /**
+     * The sections of the file, in the order they appear in the file.
+     */
+    private final List<Section> sections;
+
+    /**
+     * A section of the file, the properties applying to the files matching its glob.
+     */
+    private static final class Section {
+        /**
+         * The glob of the section compiled to a regular expression, matched against the path relative to the file.
+         */
+        final Pattern pattern;
+
+        /**
+         * The properties of the section, with lowercase names.
+         */
+        final Map<String, String> properties = new LinkedHashMap<>();
+
+        /**
+         * Creates a new section.
+         *
+         * @param pattern The glob of the section compiled to a regular expression.
+         */
+        Section(Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * Creates a new parsed file.
+     *
+     * @param root     Whether the file is the top-most one.
+     * @param sections The sections of the file.
+     */
+    private EditorConfigFile(boolean root, List<Section> sections) {
+        this.root = root;
+        this.sections = sections;
+    }
+
+    /**
+     * Parses an EditorConfig file.
+     * Comments, blank lines and lines that are neither a section header nor a property are ignored.
+     *
+     * @param editorConfigFile The EditorConfig file.
+     * @return The parsed file.
+     * @throws IOException If there is an error during reading the file.
+     */
+    static EditorConfigFile parse(Path editorConfigFile) throws IOException {
+        boolean root = false;
+        List<Section> sections = new ArrayList<>();
+        Section section = null;
+        try (BufferedReader reader = Files.newBufferedReader(editorConfigFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#' || line.charAt(0) == ';') {
+                    continue;
+                }
+                if (line.charAt(0) == '[' && line.charAt(line.length() - 1) == ']') {
+                    section = new Section(compileGlobOrNothing(line.substring(1, line.length() - 1)));
+                    sections.add(section);
+                    continue;
+                }
+                final int separatorIndex = line.indexOf('=');
+                if (separatorIndex <= 0) {
+                    continue;
+                }
+                final String name = line.substring(0, separatorIndex).trim().toLowerCase(Locale.ROOT);
+                final String value = line.substring(separatorIndex + 1).trim();
+                if (section != null) {
+                    section.properties.put(name, value);
+                } else if ("root".equals(name)) {
+                    // Only the preamble, before the first section, may declare the root
+                    root = "true".equalsIgnoreCase(value);
+                }
+            }
+        }
+        return new EditorConfigFile(root, Collections.unmodifiableList(sections));
+    }
+
+    /**
+     * Returns whether the file is the top-most one, so the parent directories are not searched.
+     *
+     * @return {@code true} if the file is the top-most one, otherwise {@code false}.
+     */
+    boolean isRoot() {
+        return root;
+    }
+
+    /**
+     * Puts the properties of all sections matching a file into the given map, the later sections win.
+     *
+     * @param relativePath The path of the file relative to the directory of this file, with {@code /} separators.
+     * @param properties   The map the matching properties are put into.
+     */
+    void collectProperties(String relativePath, Map<String, String> properties) {
+        for (Section section : sections) {
+            if (section.pattern.matcher(relativePath).matches()) {
+                properties.putAll(section.properties);
+            }
+        }
+    }
+
+    /**
+     * Compiles an EditorConfig glob to a regular expression, a malformed glob matches nothing.
+     *
+     * @param glob The glob of a section header.
+     * @return The compiled regular expression.
+     */
+    private static Pattern compileGlobOrNothing(String glob) {
+        try {
+            return compileGlob(glob);
+        } catch (PatternSyntaxException e) {
+            return NOTHING;
+        }
+    }
+
+    /**
+     * Compiles an EditorConfig glob to a regular expression.
+     * A glob without {@code /} matches the files of any subdirectory, {@code *} matches anything but {@code /},
+     * {@code **} matches anything, {@code ?} matches one character, {@code [...]} a character set
+     * and {@code {a,b}} any of the alternatives.
+     * package-private access for testing.
+     *
+     * @param glob The glob of a section header.
+     * @return The compiled regular expression.
+     */
+    static Pattern compileGlob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        String pattern = glob;
+        if (pattern.startsWith("/")) {
+            pattern = pattern.substring(1);
+        } else if (pattern.indexOf('/') < 0) {
+            regex.append("(?:.*/)?");
+        }
+        int braceDepth = 0;
+        for (int i = 0, length = pattern.length(); i < length; i++) {
+            final char c = pattern.charAt(i);
+            if (c == '*') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '*') {
+                    regex.append(".*");
+                    i++;
+                } else {
+                    regex.append("[^/]*");
+                }
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else if (c == '[') {
+                final int closingIndex = pattern.indexOf(']', i + 1);
+                if (closingIndex < 0) {
+                    regex.append("\\[");
+                } else {
+                    String characterSet = pattern.substring(i + 1, closingIndex);
+                    if (characterSet.startsWith("!")) {
+                        characterSet = "^" + characterSet.substring(1);
+                    }
+                    regex.append('[').append(characterSet.replace("\\", "\\\\")).append(']');
+                    i = closingIndex;
+                }
+            } else if (c == '{') {
+                regex.append("(?:");
+                braceDepth++;
+            } else if (c == '}' && braceDepth > 0) {
+                regex.append(')');
+                braceDepth--;
+            } else if (c == ',' && braceDepth > 0) {
+                regex.append('|');
+            } else if (c == '\\' && i + 1 < length) {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        while (braceDepth-- > 0) {
+            regex.append(')');
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+}
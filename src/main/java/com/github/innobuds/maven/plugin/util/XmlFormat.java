@@ -0,0 +1,97 @@
+package com.github.innobuds.maven.plugin.util;
+
+import java.util.Objects;
+
+/**
+ * The layout used to write an XML file, such as the indentation and the line separator.
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class XmlFormat {
+
+    /**
+     * The default format, 4 spaces indentation, LF line separator and a final newline.
+     */
+    public static final XmlFormat DEFAULT = new XmlFormat("    ", "\n", true);
+
+    /**
+     * The string used for one level of indentation.
+     */
+    private final String indent;
+
+    /**
+     * The line separator.
+     */
+    private final String lineSeparator;
+
+    /**
+     * Whether to end the file with a line separator.
+     */
+    private final boolean insertFinalNewline;
+
+    /**
+     * Creates a new XML format.
+     *
+     * @param indent             The string used for one level of indentation.
+     * @param lineSeparator      The line separator.
+     * @param insertFinalNewline Whether to end the file with a line separator.
+     */
+    public XmlFormat(String indent, String lineSeparator, boolean insertFinalNewline) {
+        this.indent = Objects.requireNonNull(indent, "indent");
+        this.lineSeparator = Objects.requireNonNull(lineSeparator, "lineSeparator");
+        this.insertFinalNewline = insertFinalNewline;
+    }
+
+    /**
+     * Returns the string used for one level of indentation.
+     *
+     * @return The string used for one level of indentation.
+     */
+    public String getIndent() {
+        return indent;
+    }
+
+    /**
+     * Returns the line separator.
+     *
+     * @return The line separator.
+     */
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    /**
+     * Returns whether to end the file with a line separator.
+     *
+     * @return {@code true} if the file ends with a line separator, otherwise {@code false}.
+     */
+    public boolean isInsertFinalNewline() {
+        return insertFinalNewline;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof XmlFormat)) {
+            return false;
+        }
+        XmlFormat that = (XmlFormat) o;
+        return insertFinalNewline == that.insertFinalNewline && indent.equals(that.indent) && lineSeparator.equals(that.lineSeparator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(indent, lineSeparator, insertFinalNewline);
+    }
+
+    @Override
+    public String toString() {
+        return "XmlFormat{indent='" + indent.replace("\t", "\\t") + "', lineSeparator='" + lineSeparator.replace("\r", "\\r").replace("\n", "\\n")
+            + "', insertFinalNewline=" + insertFinalNewline + "}";
+    }
+
+}
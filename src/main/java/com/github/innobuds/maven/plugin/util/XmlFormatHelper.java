@@ -0,0 +1,249 @@
+package com.github.innobuds.maven.plugin.util;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Utility class for resolving the {@link XmlFormat} a POM file should be written with.
+ * The indent style and size, the line endings and the final newline are taken from the {@code .editorconfig} files
+ * of the directory of the POM file and its parents, up to the one declaring {@code root = true}.
+ * Whatever they do not set is detected from the current content of the POM file,
+ * so a POM file is written back with the layout it already has.
+ * <p>
+ * The parsed {@code .editorconfig} files are cached per directory and only parsed again when they are modified,
+ * so sorting thousands of modules does not read the same files again and again.
+ * It is not meant to be instantiated.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class XmlFormatHelper {
+
+    /**
+     * The parsed EditorConfig files indexed by directory.
+     */
+    private static final ConcurrentMap<Path, CachedEditorConfigFile> EDITOR_CONFIG_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Non-public constructor to prevent instantiation of the utility class.
+     * This class should not be instantiated.
+     * package-private access for testing.
+     */
+    XmlFormatHelper() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated");
+    }
+
+    /**
+     * A parsed EditorConfig file with the modification time it was parsed at.
+     */
+    private static final class CachedEditorConfigFile {
+        /**
+         * The modification time of the file when it was parsed, or {@code null} if there is no such file.
+         */
+        @Nullable
+        final FileTime lastModifiedTime;
+
+        /**
+         * The parsed file, {@link EditorConfigFile#NONE} if there is no such file.
+         */
+        final EditorConfigFile editorConfigFile;
+
+        /**
+         * Creates a new cache entry.
+         *
+         * @param lastModifiedTime The modification time of the file, or {@code null} if there is no such file.
+         * @param editorConfigFile The parsed file.
+         */
+        CachedEditorConfigFile(@Nullable FileTime lastModifiedTime, EditorConfigFile editorConfigFile) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.editorConfigFile = editorConfigFile;
+        }
+    }
+
+    /**
+     * Resolves the format of an XML file from its EditorConfig properties and its current content.
+     *
+     * @param xmlFile    The XML file.
+     * @param xmlContent The current content of the XML file.
+     * @return The format the XML file should be written with.
+     */
+    public static XmlFormat resolve(File xmlFile, byte[] xmlContent) {
+        return resolve(detect(xmlContent), getEditorConfigProperties(xmlFile.getAbsoluteFile().toPath().normalize()));
+    }
+
+    /**
+     * Applies the EditorConfig properties to the detected format.
+     * package-private access for testing.
+     *
+     * @param detectedFormat The format detected from the content of the file.
+     * @param properties     The EditorConfig properties of the file, with lowercase names.
+     * @return The resolved format.
+     */
+    static XmlFormat resolve(XmlFormat detectedFormat, Map<String, String> properties) {
+        final String detectedIndent = detectedFormat.getIndent();
+        final String indentStyle = getProperty(properties, "indent_style");
+        final boolean tab = indentStyle == null ? detectedIndent.startsWith("\t") : "tab".equals(indentStyle);
+        String indent = "\t";
+        if (!tab) {
+            String indentSize = getProperty(properties, "indent_size");
+            if ("tab".equals(indentSize)) {
+                indentSize = getProperty(properties, "tab_width");
+            }
+            int spaceCount = detectedIndent.startsWith("\t") ? 4 : detectedIndent.length();
+            if (indentSize != null && indentSize.matches("[1-9][0-9]?")) {
+                spaceCount = Integer.parseInt(indentSize);
+            }
+            indent = repeatSpace(spaceCount);
+        }
+
+        String lineSeparator = detectedFormat.getLineSeparator();
+        final String endOfLine = getProperty(properties, "end_of_line");
+        if ("lf".equals(endOfLine)) {
+            lineSeparator = "\n";
+        } else if ("crlf".equals(endOfLine)) {
+            lineSeparator = "\r\n";
+        } else if ("cr".equals(endOfLine)) {
+            lineSeparator = "\r";
+        }
+
+        final String insertFinalNewline = getProperty(properties, "insert_final_newline");
+        final boolean finalNewline = insertFinalNewline == null ? detectedFormat.isInsertFinalNewline() : "true".equals(insertFinalNewline);
+        return new XmlFormat(indent, lineSeparator, finalNewline);
+    }
+
+    /**
+     * Detects the format of an XML file from its content.
+     * The indentation is the one of the first indented line starting with a tag, the line separator is the first one,
+     * anything that cannot be detected falls back to {@link XmlFormat#DEFAULT}.
+     *
+     * @param xmlContent The content of the XML file.
+     * @return The detected format.
+     */
+    public static XmlFormat detect(byte[] xmlContent) {
+        String lineSeparator = null;
+        String indent = null;
+        for (int i = 0, length = xmlContent.length; i < length && (lineSeparator == null || indent == null); i++) {
+            final byte b = xmlContent[i];
+            if (b != '\n' && b != '\r') {
+                continue;
+            }
+            if (lineSeparator == null) {
+                lineSeparator = b == '\n' ? "\n" : (i + 1 < length && xmlContent[i + 1] == '\n' ? "\r\n" : "\r");
+            }
+            if (indent == null) {
+                int end = i + 1;
+                while (end < length && (xmlContent[end] == ' ' || xmlContent[end] == '\t')) {
+                    end++;
+                }
+                if (end > i + 1 && end < length && xmlContent[end] == '<') {
+                    indent = xmlContent[i + 1] == '\t' ? "\t" : repeatSpace(end - i - 1);
+                }
+            }
+        }
+        final boolean finalNewline = xmlContent.length == 0
+            || xmlContent[xmlContent.length - 1] == '\n' || xmlContent[xmlContent.length - 1] == '\r';
+        return new XmlFormat(indent == null ? XmlFormat.DEFAULT.getIndent() : indent,
+            lineSeparator == null ? XmlFormat.DEFAULT.getLineSeparator() : lineSeparator, finalNewline);
+    }
+
+    /**
+     * Returns the EditorConfig properties of a file, from the top-most EditorConfig file to the nearest one.
+     * package-private access for testing.
+     *
+     * @param file The absolute and normalized path of the file.
+     * @return The EditorConfig properties of the file, with lowercase names.
+     */
+    static Map<String, String> getEditorConfigProperties(Path file) {
+        List<Path> directories = new ArrayList<>();
+        List<EditorConfigFile> editorConfigFiles = new ArrayList<>();
+        for (Path directory = file.getParent(); directory != null; directory = directory.getParent()) {
+            EditorConfigFile editorConfigFile = getEditorConfigFile(directory);
+            if (editorConfigFile != EditorConfigFile.NONE) {
+                directories.add(directory);
+                editorConfigFiles.add(editorConfigFile);
+                if (editorConfigFile.isRoot()) {
+                    break;
+                }
+            }
+        }
+        Map<String, String> properties = new HashMap<>();
+        for (int i = editorConfigFiles.size() - 1; i >= 0; i--) {
+            final String relativePath = directories.get(i).relativize(file).toString().replace(File.separatorChar, '/');
+            editorConfigFiles.get(i).collectProperties(relativePath, properties);
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the parsed EditorConfig file of a directory, from the cache unless the file has been modified.
+     * An unreadable file is handled as if there was no such file.
+     *
+     * @param directory The directory.
+     * @return The parsed EditorConfig file, or {@link EditorConfigFile#NONE} if there is no such file.
+     */
+    private static EditorConfigFile getEditorConfigFile(Path directory) {
+        Path path = directory.resolve(EditorConfigFile.FILE_NAME);
+        FileTime lastModifiedTime;
+        try {
+            lastModifiedTime = Files.getLastModifiedTime(path);
+        } catch (NoSuchFileException e) {
+            lastModifiedTime = null;
+        } catch (IOException e) {
+            return EditorConfigFile.NONE;
+        }
+        CachedEditorConfigFile cached = EDITOR_CONFIG_CACHE.get(directory);
+        if (cached != null && (cached.lastModifiedTime == null ? lastModifiedTime == null : cached.lastModifiedTime.equals(lastModifiedTime))) {
+            return cached.editorConfigFile;
+        }
+        EditorConfigFile editorConfigFile = EditorConfigFile.NONE;
+        if (lastModifiedTime != null) {
+            try {
+                editorConfigFile = EditorConfigFile.parse(path);
+            } catch (IOException e) {
+                // Handled as if there was no such file
+            }
+        }
+        EDITOR_CONFIG_CACHE.put(directory, new CachedEditorConfigFile(lastModifiedTime, editorConfigFile));
+        return editorConfigFile;
+    }
+
+    /**
+     * Returns the lowercase value of an EditorConfig property.
+     *
+     * @param properties The EditorConfig properties.
+     * @param name       The name of the property.
+     * @return The lowercase value of the property, or {@code null} if it is not set or {@code unset}.
+     */
+    @Nullable
+    private static String getProperty(Map<String, String> properties, String name) {
+        final String value = properties.get(name);
+        return value == null || "unset".equalsIgnoreCase(value) ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a string of spaces.
+     *
+     * @param count The number of spaces.
+     * @return The string of spaces.
+     */
+    private static String repeatSpace(int count) {
+        StringBuilder spaces = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            spaces.append(' ');
+        }
+        return spaces.toString();
+    }
+
+}
@@ -1,30 +1,29 @@
 package com.github.innobuds.maven.plugin.util;
 
-import org.apache.maven.plugin.MojoExecutionException;
 import org.w3c.dom.Document;
+import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 /**
  * Utility class for parsing and writing XML files.
  * This class provides static methods to read an XML document from a file and write a modified XML document back to a file.
+ * The XML parser factory is looked up lazily on the first parse and then shared,
+ * so nothing expensive happens until a file actually needs work.
  * It is not meant to be instantiated.
  *
  * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
@@ -41,114 +40,179 @@ public final class XmlHelper {
         throw new UnsupportedOperationException("Utility class should not be instantiated");
     }
 
+    /**
+     * Lazy holder of the XML parser factory, initialized by the JVM on the first parse only.
+     * No parser is cached per thread: a thread-local parser would hold the error handler, and through it
+     * the class loader of the plugin, for as long as the thread of the build lives.
+     */
+    private static final class DocumentBuilderHolder {
+        /**
+         * The factory of the XML parsers, looked up once.
+         */
+        static final DocumentBuilderFactory FACTORY = DocumentBuilderFactory.newInstance();
+
+        /**
+         * The error handler of the XML parsers, it throws the parsing errors instead of printing them to the standard error,
+         * so they are only reported once, by the caller, through the thrown exception.
+         */
+        static final ErrorHandler ERROR_HANDLER = new ErrorHandler() {
+            @Override
+            public void warning(SAXParseException exception) {
+                // Warnings do not prevent parsing
+            }
+
+            @Override
+            public void error(SAXParseException exception) throws SAXParseException {
+                throw exception;
+            }
+
+            @Override
+            public void fatalError(SAXParseException exception) throws SAXParseException {
+                throw exception;
+            }
+        };
+    }
+
+    /**
+     * Creates a new XML parser from the shared factory.
+     *
+     * @return A new XML parser, ready to parse a document.
+     * @throws ParserConfigurationException If the XML parser cannot be created.
+     */
+    private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        final DocumentBuilder xmlDocumentBuilder;
+        // DocumentBuilderFactory is not guaranteed to be thread-safe
+        synchronized (DocumentBuilderHolder.FACTORY) {
+            xmlDocumentBuilder = DocumentBuilderHolder.FACTORY.newDocumentBuilder();
+        }
+        // The default error handler prints "[Fatal Error]" to the standard error
+        xmlDocumentBuilder.setErrorHandler(DocumentBuilderHolder.ERROR_HANDLER);
+        return xmlDocumentBuilder;
+    }
+
     /**
      * Parses an XML file into a {@link Document} object.
      *
      * @param xmlFile The XML file to be parsed.
      * @return The parsed {@link Document} object representing the XML content.
-     * @throws MojoExecutionException If there is an error during parsing the XML file.
-     *                                This exception wraps any underlying {@link ParserConfigurationException},
-     *                                {@link SAXException}, or {@link IOException}.
+     * @throws IOException If there is an error during reading or parsing the XML file.
+     *                     This exception wraps any underlying {@link ParserConfigurationException} or {@link SAXException}.
      */
-    public static Document parse(File xmlFile) throws MojoExecutionException {
-        DocumentBuilderFactory xmlDocumentFactory = DocumentBuilderFactory.newInstance();
+    public static Document parse(File xmlFile) throws IOException {
+        final byte[] xmlContent;
         try {
-            DocumentBuilder xmlDocumentBuilder = xmlDocumentFactory.newDocumentBuilder();
-            return xmlDocumentBuilder.parse(xmlFile);
+            xmlContent = Files.readAllBytes(xmlFile.toPath());
+        } catch (IOException e) {
+            throw new IOException("Error parsing pom.xml: " + e.getMessage(), e);
+        }
+        return parse(xmlContent);
+    }
+
+    /**
+     * Parses the content of an XML file into a {@link Document} object.
+     * The XML declaration of the content is kept with the document, so it is written back as it was read.
+     *
+     * @param xmlContent The content of the XML file to be parsed.
+     * @return The parsed {@link Document} object representing the XML content.
+     * @throws IOException If there is an error during parsing the XML content.
+     *                     This exception wraps any underlying {@link ParserConfigurationException} or {@link SAXException}.
+     */
+    public static Document parse(byte[] xmlContent) throws IOException {
+        try {
+            Document xmlDocument = newDocumentBuilder().parse(new ByteArrayInputStream(xmlContent));
+            xmlDocument.setUserData(XmlSerializer.XML_DECLARATION_KEY, readXmlDeclaration(xmlContent, xmlDocument.getInputEncoding()), null);
+            return xmlDocument;
         } catch (ParserConfigurationException | SAXException | IOException e) {
-            throw new MojoExecutionException("Error parsing pom.xml: " + e.getMessage(), e);
+            throw new IOException("Error parsing pom.xml: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the XML declaration at the start of the content of an XML file, as it was written.
+     *
+     * @param xmlContent    The content of the XML file.
+     * @param inputEncoding The encoding the content was parsed with, or {@code null} if it is unknown.
+     * @return The XML declaration, an empty string if the content has none,
+     * or {@code null} if it cannot be decoded and must be built from the properties of the document instead.
+     */
+    private static String readXmlDeclaration(byte[] xmlContent, String inputEncoding) {
+        if (inputEncoding == null || !Charset.isSupported(inputEncoding)) {
+            return null;
+        }
+        String head = new String(xmlContent, 0, Math.min(xmlContent.length, 512), Charset.forName(inputEncoding));
+        if (head.startsWith("\uFEFF")) {
+            head = head.substring(1);
+        }
+        final int end = head.indexOf("?>");
+        if (!head.startsWith("<?xml") || end < 0 || !Character.isWhitespace(head.charAt(5))) {
+            return "";
         }
+        return head.substring(0, end + 2);
+    }
+
+    /**
+     * Returns the charset declared by the XML declaration of a document, UTF-8 if it declares none.
+     * The content of the document must be encoded with it, so the declaration stays true.
+     *
+     * @param xmlDocument The {@link Document} object.
+     * @return The charset declared by the document.
+     * @throws IllegalArgumentException If the declared charset is not supported by the JVM.
+     */
+    public static Charset getCharset(Document xmlDocument) {
+        return xmlDocument.getXmlEncoding() == null ? StandardCharsets.UTF_8 : Charset.forName(xmlDocument.getXmlEncoding());
     }
 
     /**
      * Writes a {@link Document} object to an XML file.
-     * This method transforms the {@link Document} and writes it to the specified file,
+     * This method streams the {@link Document} to the specified file with {@link XmlSerializer},
      * with indentation to improve readability.
      *
      * @param xmlFile     The target file to write the XML content to.
      * @param xmlDocument The {@link Document} object containing the XML content to be written.
-     * @throws MojoExecutionException If there is an error during the writing process.
-     *                                This exception wraps any underlying {@link TransformerException}.
+     * @throws IOException If there is an error during the writing process.
      */
-    public static void write(File xmlFile, Document xmlDocument) throws MojoExecutionException {
+    public static void write(File xmlFile, Document xmlDocument) throws IOException {
         try {
-            // Generate the XML content using regular transformer
-            TransformerFactory xmlTransformerFactory = TransformerFactory.newInstance();
-            Transformer xmlTransformer = xmlTransformerFactory.newTransformer();
-            xmlTransformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            xmlTransformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-
-            // Write to a string first
-            StringWriter stringWriter = new StringWriter();
-            xmlTransformer.transform(new DOMSource(xmlDocument), new StreamResult(stringWriter));
-            final String xmlContent = stringWriter.toString();
-
-            // Apply custom formatting for the <project> element attributes
-            final String formattedXml = formatProjectElementAttributes(xmlContent);
-
-            // Write the formatted XML to the file
-            try (FileWriter fileWriter = new FileWriter(xmlFile)) {
-                fileWriter.write(formattedXml);
-            }
-        } catch (TransformerException | IOException e) {
-            throw new MojoExecutionException("Error updating pom.xml: " + e.getMessage(), e);
+            Files.write(xmlFile.toPath(), serialize(xmlDocument));
+        } catch (IOException e) {
+            throw new IOException("Error updating pom.xml: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Formats the &lt;project&gt; element attributes to be on separate lines.
-     * This method is used to ensure that &lt;project&gt; attributes in the
-     * POM file are aligned vertically rather than being on the same line.
+     * Serializes a {@link Document} object to the content of an XML file, encoded with its declared charset,
+     * with the {@link XmlFormat#DEFAULT default format}.
+     * The same document always gives the same content, whatever the JDK version and the platform default charset are.
      *
-     * @param xmlContent The XML content as a string
-     * @return The formatted XML content with &lt;project&gt; attributes on separate lines
+     * @param xmlDocument The {@link Document} object containing the XML content to be serialized.
+     * @return The XML content, encoded with the charset declared by the document.
+     * @throws IOException If there is an error during the serializing process.
      */
-    private static String formatProjectElementAttributes(String xmlContent) {
-        if (xmlContent == null || xmlContent.isEmpty()) {
-            return xmlContent;
-        }
-
-        // Regular expression to find the <project> element opening tag with attributes
-        Pattern projectPattern = Pattern.compile("<project([^>]*)>", Pattern.DOTALL);
-        Matcher projectMatcher = projectPattern.matcher(xmlContent);
-
-        if (projectMatcher.find()) {
-            final String attributesText = projectMatcher.group(1);
-
-            // Skip if there are no attributes or just a few
-            if (attributesText.trim().isEmpty()) {
-                return xmlContent;
-            }
-
-            // Extract attributes using a regex pattern
-            Pattern attrPattern = Pattern.compile("(\\s+[\\w:]+)=\"([^\"]*)\"");
-            Matcher attrMatcher = attrPattern.matcher(attributesText);
-
-            List<String> attributesList = new ArrayList<>();
-            while (attrMatcher.find()) {
-                attributesList.add(attrMatcher.group(1) + "=\"" + attrMatcher.group(2) + "\"");
-            }
-
-            // Skip the formatting if there is only 1-2 attributes (not worth reformatting)
-            if (attributesList.size() <= 2) {
-                return xmlContent;
-            }
-
-            // Create indented attributes format
-            StringBuilder formattedAttributes = new StringBuilder(attributesList.get(0));
-            final String indent = "        "; // 8 spaces for indentation
-            // Skip the first attribute
-            for (int i = 1, size = attributesList.size(); i < size; i++) {
-                final String attribute = attributesList.get(i);
-                formattedAttributes.append("\n").append(indent).append(attribute);
-            }
+    public static byte[] serialize(Document xmlDocument) throws IOException {
+        return serialize(xmlDocument, XmlFormat.DEFAULT);
+    }
 
-            // Replace the original project tag with formatted
-            final String formattedProjectTag = "<project" + formattedAttributes + ">";
-            return xmlContent.replace(projectMatcher.group(0), formattedProjectTag);
+    /**
+     * Serializes a {@link Document} object to the content of an XML file, with the given format.
+     * The content is encoded with the charset declared by the document, see {@link #getCharset(Document)},
+     * and the serialization fails rather than writing a character this charset cannot encode.
+     * The same document always gives the same content, whatever the JDK version and the platform default charset are.
+     *
+     * @param xmlDocument The {@link Document} object containing the XML content to be serialized.
+     * @param xmlFormat   The format to write the XML content with, such as the one resolved by {@link XmlFormatHelper}.
+     * @return The XML content, encoded with the charset declared by the document.
+     * @throws IOException If there is an error during the serializing process,
+     *                     such as a character the declared charset cannot encode.
+     */
+    public static byte[] serialize(Document xmlDocument, XmlFormat xmlFormat) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192);
+        // A new encoder reports unmappable characters instead of silently replacing them
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, getCharset(xmlDocument).newEncoder()))) {
+            new XmlSerializer(xmlFormat).serialize(xmlDocument, writer);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IOException("Error updating pom.xml: " + e.getMessage(), e);
         }
-
-        return xmlContent;
+        return outputStream.toByteArray();
     }
 
 }
@@ -0,0 +1,348 @@
+package com.github.innobuds.maven.plugin.util;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Serializes a DOM {@link Document} of a POM file straight to a {@link Writer}.
+ * <p>
+ * Elements are indented with the configured {@link XmlFormat}, elements that only contain text are kept on one line,
+ * comments are kept on their own line, and one blank line is kept wherever the source had at least one,
+ * so an unchanged document is written back exactly as it was read if it already follows the format.
+ * The line breaks inside text, CDATA and comment content are written with the line separator of the format too,
+ * so a POM file never ends up with mixed line endings.
+ * The attributes of the root &lt;project&gt; element are laid out one per line, aligned with the first one,
+ * when there are more than two of them.
+ * <p>
+ * Unlike the JAXP identity transformer, the output does not depend on the JDK version.
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author <a href="https://github.com/codeboyzhou">codeboyzhou</a>
+ * @since 1.2.0
+ */
+public final class XmlSerializer {
+
+    /**
+     * The key of the user data of a parsed {@link Document} holding the XML declaration of the source as it was written,
+     * or an empty string if the source has none.
+     */
+    static final String XML_DECLARATION_KEY = "xmlDeclaration";
+
+    /**
+     * The format used to write the document.
+     */
+    private final XmlFormat format;
+
+    /**
+     * Whether the line breaks of text, CDATA and comment content are written with another line separator,
+     * the parser having normalized them all to LF.
+     */
+    private final boolean lineBreakConverted;
+
+    /**
+     * Creates a new serializer.
+     *
+     * @param format The format used to write the document.
+     */
+    public XmlSerializer(XmlFormat format) {
+        this.format = format;
+        this.lineBreakConverted = !"\n".equals(format.getLineSeparator());
+    }
+
+    /**
+     * Writes the document to the given writer, the writer is neither flushed nor closed.
+     * The XML declaration of a document parsed by {@link XmlHelper} is written back as it was read, or left out if it had none,
+     * so the writer is expected to encode with the charset declared by the document, see {@link XmlHelper#getCharset(Document)}.
+     *
+     * @param xmlDocument The document to write.
+     * @param writer      The writer to write the document to.
+     * @throws IOException If there is an error during writing.
+     */
+    public void serialize(Document xmlDocument, Writer writer) throws IOException {
+        final String xmlDeclaration = getXmlDeclaration(xmlDocument);
+        writer.write(xmlDeclaration);
+        boolean firstLine = xmlDeclaration.isEmpty();
+        for (Node node = xmlDocument.getFirstChild(); node != null; node = node.getNextSibling()) {
+            final short nodeType = node.getNodeType();
+            if (nodeType == Node.ELEMENT_NODE || nodeType == Node.COMMENT_NODE || nodeType == Node.PROCESSING_INSTRUCTION_NODE) {
+                if (!firstLine) {
+                    writer.write(format.getLineSeparator());
+                }
+                writeNode(node, 0, writer);
+                firstLine = false;
+            }
+        }
+        if (format.isInsertFinalNewline()) {
+            writer.write(format.getLineSeparator());
+        }
+    }
+
+    /**
+     * Writes a single element and all its descendants to the given writer, without any XML declaration.
+     * The writer is neither flushed nor closed.
+     *
+     * @param element The element to write.
+     * @param writer  The writer to write the element to.
+     * @throws IOException If there is an error during writing.
+     */
+    public void serialize(Element element, Writer writer) throws IOException {
+        writeNode(element, 0, writer);
+    }
+
+    /**
+     * Returns the XML declaration to write for a document, the one of its source if it was parsed by {@link XmlHelper},
+     * otherwise one built from its properties, declaring the standalone status only if it is {@code yes}.
+     *
+     * @param xmlDocument The document to write.
+     * @return The XML declaration to write, or an empty string if the source of the document has none.
+     */
+    private static String getXmlDeclaration(Document xmlDocument) {
+        final Object xmlDeclaration = xmlDocument.getUserData(XML_DECLARATION_KEY);
+        if (xmlDeclaration instanceof String) {
+            return (String) xmlDeclaration;
+        }
+        final String xmlVersion = xmlDocument.getXmlVersion() == null ? "1.0" : xmlDocument.getXmlVersion();
+        final String xmlEncoding = xmlDocument.getXmlEncoding() == null ? "UTF-8" : xmlDocument.getXmlEncoding();
+        return "<?xml version=\"" + xmlVersion + "\" encoding=\"" + xmlEncoding + "\"" + (xmlDocument.getXmlStandalone() ? " standalone=\"yes\"" : "") + "?>";
+    }
+
+    /**
+     * Writes an element, comment or processing instruction node, starting at the current position of the writer.
+     *
+     * @param node   The node to write.
+     * @param depth  The depth of the node, used for indentation.
+     * @param writer The writer to write the node to.
+     * @throws IOException If there is an error during writing.
+     */
+    private void writeNode(Node node, int depth, Writer writer) throws IOException {
+        writeIndent(depth, writer);
+        switch (node.getNodeType()) {
+            case Node.ELEMENT_NODE:
+                writeElement((Element) node, depth, writer);
+                break;
+            case Node.COMMENT_NODE:
+                writer.write("<!--");
+                writer.write(convertLineBreaks(node.getNodeValue()));
+                writer.write("-->");
+                break;
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                ProcessingInstruction processingInstruction = (ProcessingInstruction) node;
+                writer.write("<?" + processingInstruction.getTarget());
+                if (!processingInstruction.getData().isEmpty()) {
+                    writer.write(" " + processingInstruction.getData());
+                }
+                writer.write("?>");
+                break;
+            default:
+                writer.write(escape(node.getTextContent().trim(), false));
+                break;
+        }
+    }
+
+    /**
+     * Writes an element and all its descendants.
+     *
+     * @param element The element to write.
+     * @param depth   The depth of the element, used for indentation.
+     * @param writer  The writer to write the element to.
+     * @throws IOException If there is an error during writing.
+     */
+    private void writeElement(Element element, int depth, Writer writer) throws IOException {
+        final String tagName = element.getTagName();
+        writer.write('<');
+        writer.write(tagName);
+        writeAttributes(element, depth, writer);
+
+        if (!element.hasChildNodes()) {
+            writer.write("/>");
+            return;
+        }
+        writer.write('>');
+
+        if (isTextOnly(element)) {
+            for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if (node.getNodeType() == Node.CDATA_SECTION_NODE) {
+                    writer.write("<![CDATA[" + convertLineBreaks(node.getNodeValue()) + "]]>");
+                } else {
+                    writer.write(escape(node.getNodeValue(), false));
+                }
+            }
+        } else {
+            boolean blankLine = false;
+            boolean hasContent = false;
+            for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if (isBlankText(node)) {
+                    blankLine |= countLineBreaks(node.getNodeValue()) > 1;
+                    continue;
+                }
+                if (blankLine) {
+                    writer.write(format.getLineSeparator());
+                    blankLine = false;
+                }
+                writer.write(format.getLineSeparator());
+                writeNode(node, depth + 1, writer);
+                hasContent = true;
+            }
+            if (blankLine && hasContent) {
+                writer.write(format.getLineSeparator());
+            }
+            if (hasContent || countLineBreaks(element.getTextContent()) > 0) {
+                writer.write(format.getLineSeparator());
+                writeIndent(depth, writer);
+            }
+        }
+
+        writer.write("</");
+        writer.write(tagName);
+        writer.write('>');
+    }
+
+    /**
+     * Writes the attributes of an element.
+     * The attributes of the root element are written one per line if there are more than two of them.
+     *
+     * @param element The element whose attributes should be written.
+     * @param depth   The depth of the element, used for indentation.
+     * @param writer  The writer to write the attributes to.
+     * @throws IOException If there is an error during writing.
+     */
+    private void writeAttributes(Element element, int depth, Writer writer) throws IOException {
+        NamedNodeMap attributes = element.getAttributes();
+        final int length = attributes.getLength();
+        final boolean multiline = length > 2 && element == element.getOwnerDocument().getDocumentElement();
+        for (int i = 0; i < length; i++) {
+            Attr attribute = (Attr) attributes.item(i);
+            if (multiline && i > 0) {
+                writer.write(format.getLineSeparator());
+                writeIndent(depth, writer);
+                // Align with the first attribute, right after "<tagName"
+                for (int j = 0, alignment = element.getTagName().length() + 1; j < alignment; j++) {
+                    writer.write(' ');
+                }
+            }
+            writer.write(' ');
+            writer.write(attribute.getName());
+            writer.write("=\"");
+            writer.write(escape(attribute.getValue(), true));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * Writes the indentation of the given depth.
+     *
+     * @param depth  The depth to indent.
+     * @param writer The writer to write the indentation to.
+     * @throws IOException If there is an error during writing.
+     */
+    private void writeIndent(int depth, Writer writer) throws IOException {
+        for (int i = 0; i < depth; i++) {
+            writer.write(format.getIndent());
+        }
+    }
+
+    /**
+     * Checks whether an element only contains text or CDATA, with at least one non-blank character.
+     *
+     * @param element The element to check.
+     * @return {@code true} if the element only contains text, otherwise {@code false}.
+     */
+    private static boolean isTextOnly(Element element) {
+        boolean hasText = false;
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            final short nodeType = node.getNodeType();
+            if (nodeType != Node.TEXT_NODE && nodeType != Node.CDATA_SECTION_NODE) {
+                return false;
+            }
+            hasText |= nodeType == Node.CDATA_SECTION_NODE || !node.getNodeValue().trim().isEmpty();
+        }
+        return hasText;
+    }
+
+    /**
+     * Checks whether a node is a text node that only contains whitespaces.
+     *
+     * @param node The node to check.
+     * @return {@code true} if the node is a blank text node, otherwise {@code false}.
+     */
+    private static boolean isBlankText(Node node) {
+        return node.getNodeType() == Node.TEXT_NODE && node.getNodeValue().trim().isEmpty();
+    }
+
+    /**
+     * Counts the line breaks of a text, a CRLF sequence counts as one line break.
+     *
+     * @param text The text.
+     * @return The number of line breaks.
+     */
+    private static int countLineBreaks(String text) {
+        int count = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 == length || text.charAt(i + 1) != '\n'))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Converts the LF line breaks of a CDATA or comment content to the line separator of the format.
+     *
+     * @param text The CDATA or comment content.
+     * @return The content with the line separator of the format.
+     */
+    private String convertLineBreaks(String text) {
+        return lineBreakConverted ? text.replace("\n", format.getLineSeparator()) : text;
+    }
+
+    /**
+     * Escapes the characters of a text or attribute value that cannot be written as is,
+     * and converts the LF line breaks of a text to the line separator of the format.
+     *
+     * @param text      The text to escape.
+     * @param attribute Whether the text is an attribute value, where the double quotes are escaped too.
+     * @return The escaped text.
+     */
+    private String escape(String text, boolean attribute) {
+        StringBuilder escaped = null;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            final char c = text.charAt(i);
+            final String replacement;
+            if (c == '&') {
+                replacement = "&amp;";
+            } else if (c == '<') {
+                replacement = "&lt;";
+            } else if (c == '>') {
+                replacement = "&gt;";
+            } else if (c == '"' && attribute) {
+                replacement = "&quot;";
+            } else if (c == '\r') {
+                replacement = "&#13;";
+            } else if (c == '\n' && !attribute && lineBreakConverted) {
+                replacement = format.getLineSeparator();
+            } else {
+                replacement = null;
+            }
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(length + 16).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement == null) {
+                    escaped.append(c);
+                } else {
+                    escaped.append(replacement);
+                }
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.github.innobuds.maven.plugin.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PomMergeDriverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String pom(String properties, String dependencies) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n"
+            + "<project>\n"
+            + "    <modelVersion>4.0.0</modelVersion>\n"
+            + "    <groupId>com.example</groupId>\n"
+            + "    <artifactId>merge-test</artifactId>\n"
+            + "    <version>1.0.0</version>\n"
+            + "    <properties>\n" + properties + "    </properties>\n"
+            + "    <dependencies>\n" + dependencies + "    </dependencies>\n"
+            + "</project>\n";
+    }
+
+    private static String property(String name, String value) {
+        return "        <" + name + ">" + value + "</" + name + ">\n";
+    }
+
+    private static String dependency(String groupId, String artifactId, String version) {
+        return "        <dependency>\n"
+            + "            <groupId>" + groupId + "</groupId>\n"
+            + "            <artifactId>" + artifactId + "</artifactId>\n"
+            + "            <version>" + version + "</version>\n"
+            + "        </dependency>\n";
+    }
+
+    private int merge(String base, String ours, String theirs, ByteArrayOutputStream err) throws IOException {
+        Path baseFile = Files.write(tempDir.resolve("base.xml"), base.getBytes(StandardCharsets.UTF_8));
+        Path oursFile = Files.write(tempDir.resolve("ours.xml"), ours.getBytes(StandardCharsets.UTF_8));
+        Path theirsFile = Files.write(tempDir.resolve("theirs.xml"), theirs.getBytes(StandardCharsets.UTF_8));
+        String[] args = {baseFile.toString(), oursFile.toString(), theirsFile.toString(), "pom.xml"};
+        return PomMergeDriver.run(args, new PrintStream(err, true));
+    }
+
+    @Test
+    void testRun_MergeAddedEntries() throws IOException {
+        final String base = pom(property("java.version", "8"),
+            dependency("com.google.guava", "guava", "33.3.1-jre") + dependency("org.junit.jupiter", "junit-jupiter", "5.11.3"));
+        final String ours = pom(property("java.version", "8") + property("mockito.version", "5.14.2"),
+            dependency("com.google.guava", "guava", "33.3.1-jre") + dependency("org.junit.jupiter", "junit-jupiter", "5.11.3")
+                + dependency("org.mockito", "mockito-core", "${mockito.version}"));
+        final String theirs = pom(property("java.version", "11"),
+            dependency("com.google.guava", "guava", "33.3.1-jre") + dependency("commons-io", "commons-io", "2.17.0")
+                + dependency("org.junit.jupiter", "junit-jupiter", "5.11.3"));
+
+        assertEquals(PomMergeDriver.EXIT_MERGED, merge(base, ours, theirs, new ByteArrayOutputStream()));
+        final String merged = new String(Files.readAllBytes(tempDir.resolve("ours.xml")), StandardCharsets.UTF_8);
+        assertTrue(merged.contains("<java.version>11</java.version>"));
+        assertTrue(merged.contains("<mockito.version>5.14.2</mockito.version>"));
+        final int commonsIo = merged.indexOf("<artifactId>commons-io</artifactId>");
+        final int guava = merged.indexOf("<artifactId>guava</artifactId>");
+        final int junit = merged.indexOf("<artifactId>junit-jupiter</artifactId>");
+        final int mockito = merged.indexOf("<artifactId>mockito-core</artifactId>");
+        assertTrue(guava > 0 && guava < commonsIo && commonsIo < junit && junit < mockito, merged);
+    }
+
+    @Test
+    void testRun_UnsortedSectionsKeepTheirOrder() throws IOException {
+        final String base = pom(property("slf4j.version", "2.0.16") + property("guava.version", "33.3.1-jre"),
+            dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + dependency("com.google.guava", "guava", "${guava.version}"));
+        final String ours = pom(property("slf4j.version", "2.0.16") + property("guava.version", "33.3.1-jre"),
+            dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + dependency("com.google.guava", "guava", "${guava.version}")
+                + dependency("org.slf4j", "slf4j-api", "${slf4j.version}"));
+        final String theirs = pom(property("slf4j.version", "2.0.16") + property("guava.version", "33.3.1-jre") + property("commons-io.version", "2.17.0"),
+            dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + dependency("com.google.guava", "guava", "${guava.version}")
+                + dependency("commons-io", "commons-io", "${commons-io.version}"));
+
+        // Nobody sorted these sections, the merge keeps their order and appends the added entries
+        assertEquals(PomMergeDriver.EXIT_MERGED, merge(base, ours, theirs, new ByteArrayOutputStream()));
+        final String expected = pom(property("slf4j.version", "2.0.16") + property("guava.version", "33.3.1-jre") + property("commons-io.version", "2.17.0"),
+            dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + dependency("com.google.guava", "guava", "${guava.version}")
+                + dependency("org.slf4j", "slf4j-api", "${slf4j.version}") + dependency("commons-io", "commons-io", "${commons-io.version}"));
+        assertEquals(expected, new String(Files.readAllBytes(tempDir.resolve("ours.xml")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRun_MergePluginsWithoutGroupId() throws IOException {
+        final String compilerPlugin = "            <plugin>\n                <artifactId>maven-compiler-plugin</artifactId>\n"
+            + "                <version>3.13.0</version>\n            </plugin>\n";
+        final String jacocoPlugin = "            <plugin>\n                <groupId>org.jacoco</groupId>\n"
+            + "                <artifactId>jacoco-maven-plugin</artifactId>\n            </plugin>\n";
+        final String surefirePlugin = "            <plugin>\n                <artifactId>maven-surefire-plugin</artifactId>\n"
+            + "                <version>3.5.2</version>\n            </plugin>\n";
+        final String header = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n<project>\n    <build>\n        <plugins>\n";
+        final String footer = "        </plugins>\n    </build>\n</project>\n";
+        final String base = header + compilerPlugin + footer;
+        final String ours = header + compilerPlugin + jacocoPlugin + footer;
+        final String theirs = header + compilerPlugin + surefirePlugin + footer;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        // The plugins without <groupId> are merged by section, as the ones of org.apache.maven.plugins
+        assertEquals(PomMergeDriver.EXIT_MERGED, merge(base, ours, theirs, err));
+        assertEquals("", err.toString());
+        assertEquals(header + compilerPlugin + surefirePlugin + jacocoPlugin + footer,
+            new String(Files.readAllBytes(tempDir.resolve("ours.xml")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRun_SorterWarnings() throws IOException {
+        final String header = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n<project>\n"
+            + "    <dependencyManagement>\n        <dependencies>\n" + dependency("com.google.guava", "guava", "33.3.1-jre")
+            + "        </dependencies>\n    </dependencyManagement>\n    <dependencies>\n";
+        final String footer = "    </dependencies>\n</project>\n";
+        final String base = header + dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + footer;
+        final String ours = header + dependency("com.google.guava", "guava", "32.1.3-jre") + dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + footer;
+        final String theirs = header + dependency("org.junit.jupiter", "junit-jupiter", "5.11.3") + dependency("org.slf4j", "slf4j-api", "2.0.16") + footer;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        // The warnings of the sorters go to the given stream, not to the standard output
+        assertEquals(PomMergeDriver.EXIT_MERGED, merge(base, ours, theirs, err));
+        assertTrue(err.toString().contains("<dependency> com.google.guava:guava:jar: of module merged overrides managed version 33.3.1-jre"), err.toString());
+    }
+
+    @Test
+    void testRun_OneSideUnchanged() throws IOException {
+        final String base = pom(property("java.version", "8"), dependency("com.google.guava", "guava", "33.3.1-jre"));
+        final String theirs = pom(property("java.version", "11"), dependency("com.google.guava", "guava", "33.3.1-jre"));
+
+        assertEquals(PomMergeDriver.EXIT_MERGED, merge(base, base, theirs, new ByteArrayOutputStream()));
+        assertEquals(theirs, new String(Files.readAllBytes(tempDir.resolve("ours.xml")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRun_ConflictingEntry() throws IOException {
+        final String base = pom(property("java.version", "8"), dependency("com.google.guava", "guava", "32.1.3-jre"));
+        final String ours = pom(property("java.version", "8"), dependency("com.google.guava", "guava", "33.3.1-jre"));
+        final String theirs = pom(property("java.version", "8"), dependency("com.google.guava", "guava", "33.2.1-jre"));
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        assertEquals(PomMergeDriver.EXIT_CONFLICT, merge(base, ours, theirs, err));
+        assertTrue(err.toString().contains("Conflicting changes in pom.xml"));
+        final String merged = new String(Files.readAllBytes(tempDir.resolve("ours.xml")), StandardCharsets.UTF_8);
+        assertTrue(merged.contains("<<<<<<< ours"));
+        assertTrue(merged.contains(">>>>>>> theirs"));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.github.innobuds.maven.plugin.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortPomCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRun_CheckAndSort() throws IOException {
+        Path pomFile = Files.copy(Paths.get("src/test/resources/test-pom-unsorted-sections.xml"), tempDir.resolve("pom.xml"));
+        final byte[] unsortedContent = Files.readAllBytes(pomFile);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(out, true);
+
+        assertEquals(SortPomCommand.EXIT_UNSORTED, SortPomCommand.run(new String[]{"--check", pomFile.toString()}, printStream, printStream));
+        assertArrayEquals(unsortedContent, Files.readAllBytes(pomFile));
+        assertTrue(out.toString().contains("Not sorted: " + pomFile));
+
+        assertEquals(SortPomCommand.EXIT_SORTED, SortPomCommand.run(new String[]{pomFile.toString()}, printStream, printStream));
+        assertNotEquals(new String(unsortedContent), new String(Files.readAllBytes(pomFile)));
+        assertEquals(SortPomCommand.EXIT_SORTED, SortPomCommand.run(new String[]{"--check", pomFile.toString()}, printStream, printStream));
+    }
+
+    @Test
+    void testRun_Errors() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(err, true);
+        assertEquals(SortPomCommand.EXIT_ERROR, SortPomCommand.run(new String[]{"--unknown"}, printStream, printStream));
+        assertEquals(SortPomCommand.EXIT_ERROR, SortPomCommand.run(new String[]{tempDir.resolve("no-such-pom.xml").toString()}, printStream, printStream));
+        assertTrue(err.toString().contains("Error sorting"));
+    }
+
+    @Test
+    void testRun_UnexpectedError() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(err, true);
+        // An invalid path fails with an unchecked exception, which is still reported on one line as an error
+        assertEquals(SortPomCommand.EXIT_ERROR, SortPomCommand.run(new String[]{"invalid\u0000pom.xml"}, printStream, printStream));
+        final String[] lines = err.toString().trim().split("\\R");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].startsWith("Error sorting invalid"));
+        assertTrue(lines[0].contains("java.nio.file.InvalidPathException"));
+    }
+
+}
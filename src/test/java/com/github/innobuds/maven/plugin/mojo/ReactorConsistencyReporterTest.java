@@ -0,0 +1,149 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.sorter.ReactorDependencyIndex;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+class ReactorConsistencyReporterTest {
+
+    private static MojoExecution newMojoExecution(MojoExecution.Source source) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("io.github.codeboyzhou");
+        pluginDescriptor.setArtifactId("sort-dependency-maven-plugin");
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal("sort");
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+        return new MojoExecution(mojoDescriptor, "default-cli", source);
+    }
+
+    private static MavenProject newProject(String groupId, String artifactId, String... goals) {
+        MavenProject project = new MavenProject();
+        project.setGroupId(groupId);
+        project.setArtifactId(artifactId);
+        if (goals.length > 0) {
+            PluginExecution execution = new PluginExecution();
+            execution.setGoals(Arrays.asList(goals));
+            Plugin plugin = new Plugin();
+            plugin.setGroupId("io.github.codeboyzhou");
+            plugin.setArtifactId("sort-dependency-maven-plugin");
+            plugin.addExecution(execution);
+            project.getBuild().addPlugin(plugin);
+        }
+        return project;
+    }
+
+    private static MavenSession newSession(MavenProject... projects) {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getProjects()).thenReturn(Arrays.asList(projects));
+        return session;
+    }
+
+    @Test
+    void testIndexOf() {
+        // Parallel builds give each module its own clone of the session, all sharing the same request
+        MavenExecutionRequest request = mock(MavenExecutionRequest.class);
+        MavenSession session = mock(MavenSession.class);
+        MavenSession clonedSession = mock(MavenSession.class);
+        when(session.getRequest()).thenReturn(request);
+        when(clonedSession.getRequest()).thenReturn(request);
+        MojoExecution mojoExecution = newMojoExecution(MojoExecution.Source.CLI);
+        assertSame(ReactorConsistencyReporter.indexOf(session, mojoExecution), ReactorConsistencyReporter.indexOf(clonedSession, mojoExecution));
+
+        MavenSession otherBuildSession = mock(MavenSession.class);
+        when(otherBuildSession.getRequest()).thenReturn(mock(MavenExecutionRequest.class));
+        assertNotSame(ReactorConsistencyReporter.indexOf(session, mojoExecution), ReactorConsistencyReporter.indexOf(otherBuildSession, mojoExecution));
+
+        // Another goal of the same build sorting the same modules gets its own index
+        MojoExecution otherGoalExecution = newMojoExecution(MojoExecution.Source.CLI);
+        otherGoalExecution.getMojoDescriptor().setGoal("sort-dependencies");
+        assertNotSame(ReactorConsistencyReporter.indexOf(session, mojoExecution), ReactorConsistencyReporter.indexOf(session, otherGoalExecution));
+    }
+
+    @Test
+    void testGetModulesRunningGoal() {
+        MavenSession session = newSession(newProject("com.example", "module-a", "sort"), newProject("com.example", "module-b"),
+            newProject("com.example", "module-c", "sort-plugins"));
+        assertEquals(Collections.singleton("com.example:module-a"),
+            ReactorConsistencyReporter.getModulesRunningGoal(session, newMojoExecution(MojoExecution.Source.LIFECYCLE)));
+        assertEquals(new HashSet<>(Arrays.asList("com.example:module-a", "com.example:module-b", "com.example:module-c")),
+            ReactorConsistencyReporter.getModulesRunningGoal(session, newMojoExecution(MojoExecution.Source.CLI)));
+    }
+
+    @Test
+    void testReportIfComplete() {
+        // The last module of the reactor does not run the goal, and the other modules finish out of order
+        MavenSession session = newSession(newProject("com.example", "module-a", "sort"), newProject("com.example", "module-b", "sort"),
+            newProject("com.example", "module-c"));
+        MojoExecution mojoExecution = newMojoExecution(MojoExecution.Source.LIFECYCLE);
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        index.add("com.google:guava:jar:", "33.3.1-jre", null, "com.example:module-a");
+        index.add("com.google:guava:jar:", "32.1.3-jre", null, "com.example:module-b");
+        Log log = mock(Log.class);
+
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example:module-b", log);
+        verifyNoInteractions(log);
+
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example:module-a", log);
+        verify(log).info("Checking 1 dependency coordinates declared in 2 modules of the reactor");
+        verify(log).warn("com.google:guava:jar: is declared with different versions: "
+            + "32.1.3-jre (com.example:module-b), 33.3.1-jre (com.example:module-a)");
+        verify(log).warn("com.google:guava:jar: has hard-coded version 32.1.3-jre (com.example:module-b), 33.3.1-jre (com.example:module-a), "
+            + "consider defining it in a property");
+
+        // The inconsistencies are reported only once per build
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example:module-a", log);
+        verifyNoMoreInteractions(log);
+    }
+
+    @Test
+    void testReportIfComplete_CommandLine() {
+        // A goal invoked from the command line runs in every module, bound or not
+        MavenSession session = newSession(newProject("com.example", "module-a", "sort"), newProject("com.example", "module-b"));
+        MojoExecution mojoExecution = newMojoExecution(MojoExecution.Source.CLI);
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        Log log = mock(Log.class);
+
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example:module-a", log);
+        verifyNoInteractions(log);
+
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example:module-b", log);
+        verify(log).info("Checking 0 dependency coordinates declared in 2 modules of the reactor");
+        verify(log).info("No dependency inconsistency found in the reactor");
+        verifyNoMoreInteractions(log);
+    }
+
+    @Test
+    void testReportIfComplete_SameArtifactId() {
+        // Two modules of different groups may have the same artifactId, both must be indexed before reporting
+        MavenSession session = newSession(newProject("com.example.a", "core", "sort"), newProject("com.example.b", "core", "sort"));
+        MojoExecution mojoExecution = newMojoExecution(MojoExecution.Source.LIFECYCLE);
+        assertEquals(new HashSet<>(Arrays.asList("com.example.a:core", "com.example.b:core")),
+            ReactorConsistencyReporter.getModulesRunningGoal(session, mojoExecution));
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        Log log = mock(Log.class);
+
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example.a:core", log);
+        verifyNoInteractions(log);
+
+        ReactorConsistencyReporter.reportIfComplete(session, mojoExecution, index, "com.example.b:core", log);
+        verify(log).info("Checking 0 dependency coordinates declared in 2 modules of the reactor");
+    }
+
+}
@@ -5,29 +5,38 @@ import com.github.innobuds.maven.plugin.util.XmlHelper;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class SortDependenciesMojoTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void testExecute_NoAnyDependencyTag() throws MojoExecutionException, NoSuchFieldException, IllegalAccessException {
         SortDependenciesMojo mojo = new SortDependenciesMojo();
         MavenProject project = mock(MavenProject.class);
         when(project.getFile()).thenReturn(new File("src/test/resources/test-pom-no-any-dependency-tag.xml"));
         when(project.getArtifactId()).thenReturn("test-pom-no-any-dependency-tag");
-        Field projectField = SortDependenciesMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -41,7 +50,7 @@ class SortDependenciesMojoTest {
         MavenProject project = mock(MavenProject.class);
         when(project.getFile()).thenReturn(new File("src/test/resources/test-pom-empty-dependencies-tag.xml"));
         when(project.getArtifactId()).thenReturn("test-pom-empty-dependencies-tag");
-        Field projectField = SortDependenciesMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -50,13 +59,13 @@ class SortDependenciesMojoTest {
     }
 
     @Test
-    void testExecute_DependenciesIncludeDependencyTags() throws MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+    void testExecute_DependenciesIncludeDependencyTags() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
         SortDependenciesMojo mojo = new SortDependenciesMojo();
         MavenProject project = mock(MavenProject.class);
         File pomFile = new File("src/test/resources/test-pom-dependencies-include-dependency-tags.xml");
         when(project.getFile()).thenReturn(pomFile);
         when(project.getArtifactId()).thenReturn("test-pom-dependencies-include-dependency-tags");
-        Field projectField = SortDependenciesMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -90,4 +99,53 @@ class SortDependenciesMojoTest {
         verify(project).getArtifactId();
     }
 
+    @Test
+    void testExecute_RemoveManagedVersions() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        Path source = Paths.get("src/test/resources/test-pom-dependencies-managed-by-dependency-management.xml");
+        File pomFile = Files.copy(source, tempDir.resolve(source.getFileName())).toFile();
+        SortDependenciesMojo mojo = new SortDependenciesMojo();
+        MavenProject project = mock(MavenProject.class);
+        when(project.getFile()).thenReturn(pomFile);
+        when(project.getArtifactId()).thenReturn("test-pom-dependencies-managed-by-dependency-management");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
+        projectField.setAccessible(true);
+        projectField.set(mojo, project);
+        Field removeManagedVersionsField = AbstractDependencySortMojo.class.getDeclaredField("removeManagedVersions");
+        removeManagedVersionsField.setAccessible(true);
+        removeManagedVersionsField.set(mojo, true);
+        mojo.execute();
+
+        Document pomXmlDocument = XmlHelper.parse(pomFile);
+        Element dependencyManagementElement = DomHelper.findChildElement(pomXmlDocument.getDocumentElement(), "dependencyManagement");
+        List<Element> managedDependencyElementList = getChildElements(DomHelper.findChildElement(dependencyManagementElement, "dependencies"));
+        assertEquals(2, managedDependencyElementList.size());
+        assertEquals("com.google:guava", DomHelper.getElementUniqueKey(managedDependencyElementList.get(0)));
+        assertEquals("org.apache.commons:commons-lang3", DomHelper.getElementUniqueKey(managedDependencyElementList.get(1)));
+
+        List<Element> dependencyElementList = getChildElements(DomHelper.findChildElement(pomXmlDocument.getDocumentElement(), "dependencies"));
+        assertEquals(4, dependencyElementList.size());
+        // The conflicting duplicate keeps the last declaration
+        assertEquals("com.alibaba:fastjson:jar:", DomHelper.getDependencyCoordinateKey(dependencyElementList.get(0)));
+        assertEquals("2.0.53", DomHelper.getChildElementText(dependencyElementList.get(0), "version"));
+        // The version overriding the managed one is kept
+        assertEquals("com.google:guava:jar:", DomHelper.getDependencyCoordinateKey(dependencyElementList.get(1)));
+        assertEquals("32.1.3-jre", DomHelper.getChildElementText(dependencyElementList.get(1), "version"));
+        // The version equal to the managed one is removed, the one with another classifier is not managed
+        assertEquals("org.apache.commons:commons-lang3:jar:", DomHelper.getDependencyCoordinateKey(dependencyElementList.get(2)));
+        assertNull(DomHelper.findChildElement(dependencyElementList.get(2), "version"));
+        assertEquals("org.apache.commons:commons-lang3:jar:sources", DomHelper.getDependencyCoordinateKey(dependencyElementList.get(3)));
+        assertEquals("3.17.0", DomHelper.getChildElementText(dependencyElementList.get(3), "version"));
+        assertTrue(new String(Files.readAllBytes(pomFile.toPath())).contains("<classifier>sources</classifier>"));
+    }
+
+    private List<Element> getChildElements(Element element) {
+        List<Element> childElementList = new ArrayList<>();
+        for (Node node : DomHelper.getSignificantChildNodesOf(element)) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                childElementList.add((Element) node);
+            }
+        }
+        return childElementList;
+    }
+
 }
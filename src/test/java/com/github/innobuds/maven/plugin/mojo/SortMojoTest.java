@@ -0,0 +1,203 @@
+package com.github.innobuds.maven.plugin.mojo;
+
+import com.github.innobuds.maven.plugin.util.DomHelper;
+import com.github.innobuds.maven.plugin.util.XmlHelper;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.plexus.build.incremental.BuildContext;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class SortMojoTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExecute_AllRegisteredSorters() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        File pomFile = copyToTempDir("src/test/resources/test-pom-unsorted-sections.xml");
+        SortMojo mojo = newMojo(pomFile, "test-pom-unsorted-sections");
+        mojo.execute();
+
+        Document pomXmlDocument = XmlHelper.parse(pomFile);
+        List<String> dependencyKeyList = getChildElementUniqueKeys(pomXmlDocument, "dependencies");
+        assertEquals("com.alibaba:fastjson", dependencyKeyList.get(0));
+        assertEquals("com.google:guava", dependencyKeyList.get(1));
+        assertEquals("org.apache.commons:commons-collections4", dependencyKeyList.get(2));
+        assertEquals("org.apache.commons:commons-lang3", dependencyKeyList.get(3));
+        List<String> pluginKeyList = getChildElementUniqueKeys(pomXmlDocument, "plugins");
+        assertEquals("org.apache.maven.plugins:maven-gpg-plugin", pluginKeyList.get(0));
+        assertEquals("org.apache.maven.plugins:maven-javadoc-plugin", pluginKeyList.get(1));
+        assertEquals("org.apache.maven.plugins:maven-source-plugin", pluginKeyList.get(2));
+        List<String> propertyNameList = new ArrayList<>();
+        for (Node node : DomHelper.getSignificantChildNodesOf((Element) pomXmlDocument.getElementsByTagName("properties").item(0))) {
+            propertyNameList.add(node.getNodeType() == Node.ELEMENT_NODE ? node.getNodeName() : node.getTextContent().trim());
+        }
+        assertEquals("java.version", propertyNameList.get(0));
+        assertEquals("jacoco-maven-plugin.version", propertyNameList.get(2));
+        assertEquals("maven-gpg-plugin.version", propertyNameList.get(3));
+        assertEquals("guava.version", propertyNameList.get(5));
+        assertEquals("junit5.version", propertyNameList.get(6));
+    }
+
+    @Test
+    void testExecute_CustomSorter() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        File pomFile = copyToTempDir("src/test/resources/test-pom-unsorted-sections.xml");
+        SortMojo mojo = newMojo(pomFile, "test-pom-unsorted-sections");
+        BuildContext buildContext = mock(BuildContext.class);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(buildContext.newFileOutputStream(pomFile)).thenReturn(outputStream);
+        Field buildContextField = AbstractSortMojo.class.getDeclaredField("buildContext");
+        buildContextField.setAccessible(true);
+        buildContextField.set(mojo, buildContext);
+        mojo.execute();
+
+        // ModulesSorter is registered in META-INF/services of the test classpath,
+        // its changes and the ones of the built-in sorters are written at once
+        verify(buildContext, times(1)).newFileOutputStream(pomFile);
+        Document pomXmlDocument = XmlHelper.parse(outputStream.toByteArray());
+        List<String> moduleList = new ArrayList<>();
+        for (Node node : DomHelper.getSignificantChildNodesOf((Element) pomXmlDocument.getElementsByTagName("modules").item(0))) {
+            moduleList.add(node.getTextContent());
+        }
+        assertEquals(Arrays.asList("module-a", "module-b"), moduleList);
+        assertEquals("com.alibaba:fastjson", getChildElementUniqueKeys(pomXmlDocument, "dependencies").get(0));
+        assertEquals("org.apache.maven.plugins:maven-gpg-plugin", getChildElementUniqueKeys(pomXmlDocument, "plugins").get(0));
+    }
+
+    @Test
+    void testExecute_AlreadySortedPomIsNotWritten() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        File pomFile = copyToTempDir("src/test/resources/test-pom-unsorted-sections.xml");
+        newMojo(pomFile, "test-pom-unsorted-sections").execute();
+        final byte[] sortedContent = Files.readAllBytes(pomFile.toPath());
+
+        newMojo(pomFile, "test-pom-unsorted-sections").execute();
+        assertArrayEquals(sortedContent, Files.readAllBytes(pomFile.toPath()));
+    }
+
+    @Test
+    void testExecute_UpToDatePomIsSkipped() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        File pomFile = copyToTempDir("src/test/resources/test-pom-unsorted-sections.xml");
+        File buildDirectory = tempDir.resolve("target").toFile();
+        SortMojo mojo = newMojo(pomFile, "test-pom-unsorted-sections");
+        Field buildDirectoryField = AbstractSortMojo.class.getDeclaredField("buildDirectory");
+        buildDirectoryField.setAccessible(true);
+        buildDirectoryField.set(mojo, buildDirectory);
+        mojo.execute();
+        assertTrue(new File(buildDirectory, "sort-dependency-maven-plugin/SortMojo.sha256").isFile());
+
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        verify(log).info("POM file of module test-pom-unsorted-sections is up to date, skip sorting");
+        verify(log, never()).info(startsWith("Sorting"));
+
+        // Any change of the POM file invalidates the recorded state
+        Files.write(pomFile.toPath(), new String(Files.readAllBytes(pomFile.toPath()), StandardCharsets.UTF_8)
+            .replace("<version>4.4</version>", "<version>4.5</version>").getBytes(StandardCharsets.UTF_8));
+        mojo.execute();
+        verify(log).info("Sorting <dependencies> element for module test-pom-unsorted-sections");
+    }
+
+    @Test
+    void testExecute_PluginUpgradeInvalidatesState() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        File pomFile = copyToTempDir("src/test/resources/test-pom-unsorted-sections.xml");
+        SortMojo mojo = newMojo(pomFile, "test-pom-unsorted-sections");
+        Field buildDirectoryField = AbstractSortMojo.class.getDeclaredField("buildDirectory");
+        buildDirectoryField.setAccessible(true);
+        buildDirectoryField.set(mojo, tempDir.resolve("target").toFile());
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setVersion("1.2.0");
+        Field pluginDescriptorField = AbstractSortMojo.class.getDeclaredField("pluginDescriptor");
+        pluginDescriptorField.setAccessible(true);
+        pluginDescriptorField.set(mojo, pluginDescriptor);
+        mojo.execute();
+
+        // A new version of the plugin may sort differently, the POM file is sorted again
+        pluginDescriptor.setVersion("1.3.0");
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        verify(log, never()).info("POM file of module test-pom-unsorted-sections is up to date, skip sorting");
+        verify(log).info("Sorting <dependencies> element for module test-pom-unsorted-sections");
+    }
+
+    @Test
+    void testExecute_IncrementalBuildContext() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+        File pomFile = copyToTempDir("src/test/resources/test-pom-unsorted-sections.xml");
+        final byte[] originalContent = Files.readAllBytes(pomFile.toPath());
+        SortMojo mojo = newMojo(pomFile, "test-pom-unsorted-sections");
+        BuildContext buildContext = mock(BuildContext.class);
+        when(buildContext.isIncremental()).thenReturn(true);
+        Field buildContextField = AbstractSortMojo.class.getDeclaredField("buildContext");
+        buildContextField.setAccessible(true);
+        buildContextField.set(mojo, buildContext);
+
+        // The POM file has not changed since the last incremental build
+        when(buildContext.hasDelta(pomFile)).thenReturn(false);
+        mojo.execute();
+        verify(buildContext, never()).newFileOutputStream(any(File.class));
+
+        // The POM file has changed, the sorted content is written through the build context
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(buildContext.hasDelta(pomFile)).thenReturn(true);
+        when(buildContext.newFileOutputStream(pomFile)).thenReturn(outputStream);
+        mojo.execute();
+        verify(buildContext).newFileOutputStream(pomFile);
+        assertTrue(outputStream.size() > 0);
+        assertArrayEquals(originalContent, Files.readAllBytes(pomFile.toPath()));
+    }
+
+    private File copyToTempDir(String pomFilePath) throws IOException {
+        Path source = Paths.get(pomFilePath);
+        return Files.copy(source, tempDir.resolve(source.getFileName())).toFile();
+    }
+
+    private SortMojo newMojo(File pomFile, String artifactId) throws NoSuchFieldException, IllegalAccessException {
+        SortMojo mojo = new SortMojo();
+        MavenProject project = mock(MavenProject.class);
+        when(project.getFile()).thenReturn(pomFile);
+        when(project.getArtifactId()).thenReturn(artifactId);
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
+        projectField.setAccessible(true);
+        projectField.set(mojo, project);
+        return mojo;
+    }
+
+    private List<String> getChildElementUniqueKeys(Document pomXmlDocument, String sectionName) {
+        NodeList childNodes = pomXmlDocument.getElementsByTagName(sectionName).item(0).getChildNodes();
+        List<String> elementUniqueKeyList = new ArrayList<>();
+        for (int i = 0; i < childNodes.getLength(); i++) {
+            Node childNode = childNodes.item(i);
+            if (childNode.getNodeType() == Node.ELEMENT_NODE) {
+                elementUniqueKeyList.add(DomHelper.getElementUniqueKey((Element) childNode));
+            }
+        }
+        return elementUniqueKeyList;
+    }
+
+}
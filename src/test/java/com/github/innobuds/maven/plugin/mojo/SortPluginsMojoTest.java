@@ -11,6 +11,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,7 +28,7 @@ class SortPluginsMojoTest {
         MavenProject project = mock(MavenProject.class);
         when(project.getFile()).thenReturn(new File("src/test/resources/test-pom-no-any-dependency-tag.xml"));
         when(project.getArtifactId()).thenReturn("test-pom-no-any-dependency-tag");
-        Field projectField = SortPluginsMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -41,7 +42,7 @@ class SortPluginsMojoTest {
         MavenProject project = mock(MavenProject.class);
         when(project.getFile()).thenReturn(new File("src/test/resources/test-pom-empty-dependencies-tag.xml"));
         when(project.getArtifactId()).thenReturn("test-pom-empty-dependencies-tag");
-        Field projectField = SortPluginsMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -50,13 +51,13 @@ class SortPluginsMojoTest {
     }
 
     @Test
-    void testExecute_PluginsIncludePluginTags() throws MojoExecutionException, NoSuchFieldException, IllegalAccessException {
+    void testExecute_PluginsIncludePluginTags() throws IOException, MojoExecutionException, NoSuchFieldException, IllegalAccessException {
         SortPluginsMojo mojo = new SortPluginsMojo();
         MavenProject project = mock(MavenProject.class);
         File pomFile = new File("src/test/resources/test-pom-dependencies-include-dependency-tags.xml");
         when(project.getFile()).thenReturn(pomFile);
         when(project.getArtifactId()).thenReturn("test-pom-dependencies-include-dependency-tags");
-        Field projectField = SortPluginsMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
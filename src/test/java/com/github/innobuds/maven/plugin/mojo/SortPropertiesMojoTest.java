@@ -19,7 +19,7 @@ class SortPropertiesMojoTest {
         MavenProject project = mock(MavenProject.class);
         when(project.getFile()).thenReturn(new File("src/test/resources/test-pom-no-any-properties-tag.xml"));
         when(project.getArtifactId()).thenReturn("test-pom-no-any-properties-tag");
-        Field projectField = SortPropertiesMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -33,7 +33,7 @@ class SortPropertiesMojoTest {
         MavenProject project = mock(MavenProject.class);
         when(project.getFile()).thenReturn(new File("src/test/resources/test-pom-empty-properties-tag.xml"));
         when(project.getArtifactId()).thenReturn("test-pom-empty-properties-tag");
-        Field projectField = SortPropertiesMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -53,7 +53,7 @@ class SortPropertiesMojoTest {
         File pomFile = new File(pomFilePath);
         when(project.getFile()).thenReturn(pomFile);
         when(project.getArtifactId()).thenReturn("test-pom-properties-include-child-nodes");
-        Field projectField = SortPropertiesMojo.class.getDeclaredField("project");
+        Field projectField = AbstractSortMojo.class.getDeclaredField("project");
         projectField.setAccessible(true);
         projectField.set(mojo, project);
         mojo.execute();
@@ -0,0 +1,43 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.DomHelper;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A custom sorter registered through {@code META-INF/services} of the test classpath only,
+ * the same way a third-party jar added to the plugin &lt;dependencies&gt; registers its sorters.
+ * It sorts the &lt;module&gt; elements of the &lt;modules&gt; section alphabetically.
+ */
+public class ModulesSorter implements PomSectionSorter {
+
+    @Override
+    public String getSectionName() {
+        return "modules";
+    }
+
+    @Override
+    public boolean sort(Document pomXmlDocument, SortContext context) {
+        Element modulesElement = DomHelper.findChildElementByPath(pomXmlDocument.getDocumentElement(), "modules");
+        if (modulesElement == null) {
+            return false;
+        }
+
+        List<Node> originalChildNodes = DomHelper.getSignificantChildNodesOf(modulesElement);
+        Map<String, Node> moduleElementMap = new TreeMap<>();
+        for (Node node : originalChildNodes) {
+            moduleElementMap.put(node.getTextContent().trim(), node);
+        }
+        DomHelper.removeAllChildNodesOf(modulesElement);
+        moduleElementMap.values().forEach(modulesElement::appendChild);
+
+        context.addSortedElementCount(getSectionName(), moduleElementMap.size());
+        return !DomHelper.isSameNodeSequence(originalChildNodes, DomHelper.getSignificantChildNodesOf(modulesElement));
+    }
+
+}
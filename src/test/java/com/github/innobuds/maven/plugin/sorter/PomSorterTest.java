@@ -0,0 +1,214 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import com.github.innobuds.maven.plugin.util.XmlFormat;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PomSorterTest {
+
+    private final PomSorter pomSorter = PomSorter.withRegisteredSorters();
+
+    private static String readUnsortedPom() throws IOException {
+        return new String(Files.readAllBytes(Paths.get("src/test/resources/test-pom-unsorted-sections.xml")), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testSort() throws IOException, PomSortException {
+        final String unsortedPom = readUnsortedPom();
+        PomSortResult result = pomSorter.sort(unsortedPom, PomSortOptions.DEFAULT);
+        assertTrue(result.isChanged());
+        assertEquals(XmlFormat.DEFAULT, result.getFormat());
+        assertNotEquals(unsortedPom, result.getContentAsString());
+
+        // The test classpath also registers ModulesSorter, found before the built-in sorters
+        List<PomSortResult.SectionStats> sectionStats = result.getSectionStats();
+        assertEquals(4, sectionStats.size());
+        assertEquals("modules", sectionStats.get(0).getSectionName());
+        assertEquals(2, sectionStats.get(0).getSortedElementCount());
+        assertEquals("dependencies", sectionStats.get(1).getSectionName());
+        assertEquals(4, sectionStats.get(1).getSortedElementCount());
+        assertEquals("plugins", sectionStats.get(2).getSectionName());
+        assertEquals(3, sectionStats.get(2).getSortedElementCount());
+        assertEquals("properties", sectionStats.get(3).getSectionName());
+        assertTrue(sectionStats.stream().allMatch(PomSortResult.SectionStats::isChanged));
+
+        // Sorting the sorted content again changes nothing and returns the input as is
+        final byte[] sortedContent = result.getContent();
+        PomSortResult sortedResult = pomSorter.sort(new ByteArrayInputStream(sortedContent), PomSortOptions.DEFAULT);
+        assertFalse(sortedResult.isChanged());
+        assertArrayEquals(sortedContent, sortedResult.getContent());
+        assertTrue(sortedResult.getSectionStats().stream().noneMatch(PomSortResult.SectionStats::isChanged));
+    }
+
+    @Test
+    void testSort_Format() throws IOException, PomSortException {
+        final XmlFormat format = new XmlFormat("\t", "\r\n", false);
+        PomSortResult result = pomSorter.sort(readUnsortedPom(), PomSortOptions.DEFAULT.withFormat(format));
+        assertEquals(format, result.getFormat());
+        assertTrue(result.getContentAsString().contains("\r\n\t<modelVersion>4.0.0</modelVersion>"));
+        assertFalse(result.getContentAsString().endsWith("\r\n"));
+    }
+
+    @Test
+    void testSort_Concurrently() throws Exception {
+        final String unsortedPom = readUnsortedPom();
+        final String expected = pomSorter.sort(unsortedPom, PomSortOptions.DEFAULT).getContentAsString();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PomSortResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                final PomSortOptions options = PomSortOptions.DEFAULT.withModuleName("module-" + i);
+                futures.add(executorService.submit(() -> pomSorter.sort(unsortedPom, options)));
+            }
+            for (Future<PomSortResult> future : futures) {
+                assertEquals(expected, future.get().getContentAsString());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSort_DeclaredEncoding() throws PomSortException {
+        final String b = "        <dependency>\n            <groupId>b</groupId>\n            <artifactId>b</artifactId>\n"
+            + "        </dependency>\n";
+        final String a = "        <dependency>\n            <groupId>a</groupId>\n            <artifactId>a</artifactId>\n"
+            + "        </dependency>\n";
+        final String header = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<project>\n    <name>Caf\u00e9</name>\n    <dependencies>\n";
+        final String footer = "    </dependencies>\n</project>\n";
+        final String unsortedPom = header + b + a + footer;
+        final String sortedPom = header + a + b + footer;
+        PomSortResult result = pomSorter.sort(unsortedPom, PomSortOptions.DEFAULT);
+        assertEquals(StandardCharsets.ISO_8859_1, result.getCharset());
+        assertEquals(sortedPom, result.getContentAsString());
+        assertArrayEquals(sortedPom.getBytes(StandardCharsets.ISO_8859_1), result.getContent());
+
+        // The unchanged content is returned as is, still decoded with the declared charset
+        PomSortResult sortedResult = pomSorter.sort(sortedPom.getBytes(StandardCharsets.ISO_8859_1), PomSortOptions.DEFAULT);
+        assertFalse(sortedResult.isChanged());
+        assertEquals(sortedPom, sortedResult.getContentAsString());
+    }
+
+    @Test
+    void testSort_ProjectSectionsOnly() throws PomSortException {
+        final String profilePom = "    <profiles>\n        <profile>\n            <id>b</id>\n            <dependencies>\n"
+            + "                <dependency>\n                    <groupId>b</groupId>\n                    <artifactId>b</artifactId>\n                </dependency>\n"
+            + "                <dependency>\n                    <groupId>a</groupId>\n                    <artifactId>a</artifactId>\n                </dependency>\n"
+            + "            </dependencies>\n        </profile>\n    </profiles>\n";
+        final String pom = "<project>\n" + profilePom + "    <build>\n"
+            + "        <pluginManagement>\n            <plugins>\n"
+            + "                <plugin>\n                    <groupId>b</groupId>\n                    <artifactId>b</artifactId>\n                </plugin>\n"
+            + "                <plugin>\n                    <groupId>a</groupId>\n                    <artifactId>a</artifactId>\n                </plugin>\n"
+            + "            </plugins>\n        </pluginManagement>\n        <plugins>\n"
+            + "            <plugin>\n                <groupId>d</groupId>\n                <artifactId>d</artifactId>\n            </plugin>\n"
+            + "            <plugin>\n                <groupId>c</groupId>\n                <artifactId>c</artifactId>\n            </plugin>\n"
+            + "        </plugins>\n    </build>\n</project>\n";
+        final String sortedPom = "<project>\n" + profilePom + "    <build>\n"
+            + "        <pluginManagement>\n            <plugins>\n"
+            + "                <plugin>\n                    <groupId>a</groupId>\n                    <artifactId>a</artifactId>\n                </plugin>\n"
+            + "                <plugin>\n                    <groupId>b</groupId>\n                    <artifactId>b</artifactId>\n                </plugin>\n"
+            + "            </plugins>\n        </pluginManagement>\n        <plugins>\n"
+            + "            <plugin>\n                <groupId>c</groupId>\n                <artifactId>c</artifactId>\n            </plugin>\n"
+            + "            <plugin>\n                <groupId>d</groupId>\n                <artifactId>d</artifactId>\n            </plugin>\n"
+            + "        </plugins>\n    </build>\n</project>\n";
+        // Both plugin sections of the build are sorted, the sections of a profile are left unchanged
+        assertEquals(sortedPom, pomSorter.sort(pom, PomSortOptions.DEFAULT).getContentAsString());
+    }
+
+    @Test
+    void testSort_Log() throws PomSortException {
+        final List<String> warnings = new ArrayList<>();
+        SortLogger log = new SortLogger() {
+            @Override
+            public void info(String message) {
+                // Progress is not checked
+            }
+
+            @Override
+            public void warn(String message) {
+                warnings.add(message);
+            }
+        };
+        final String pom = "<project>\n    <dependencies>\n"
+            + "        <dependency><groupId>com.google.guava</groupId><artifactId>guava</artifactId><version>32.1.3-jre</version></dependency>\n"
+            + "        <dependency><groupId>com.google.guava</groupId><artifactId>guava</artifactId><version>33.3.1-jre</version></dependency>\n"
+            + "    </dependencies>\n</project>\n";
+        pomSorter.sort(pom, PomSortOptions.DEFAULT.withModuleName("module-a").withLog(log));
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).startsWith("Conflicting <dependency> com.google.guava:guava:jar: in <dependencies> element of module module-a"));
+    }
+
+    @Test
+    void testSort_PluginWithoutGroupId() throws PomSortException {
+        final String compilerPlugin = "            <plugin>\n                <artifactId>maven-compiler-plugin</artifactId>\n            </plugin>\n";
+        final String jacocoPlugin = "            <plugin>\n                <groupId>org.jacoco</groupId>\n"
+            + "                <artifactId>jacoco-maven-plugin</artifactId>\n            </plugin>\n";
+        final String gpgPlugin = "            <plugin>\n                <groupId>org.apache.maven.plugins</groupId>\n"
+            + "                <artifactId>maven-gpg-plugin</artifactId>\n            </plugin>\n";
+        final String header = "<project>\n    <build>\n        <plugins>\n";
+        final String footer = "        </plugins>\n    </build>\n</project>\n";
+        // A <plugin> without <groupId> is sorted as one of org.apache.maven.plugins
+        PomSortResult result = pomSorter.sort(header + jacocoPlugin + gpgPlugin + compilerPlugin + footer, PomSortOptions.DEFAULT);
+        assertEquals(header + compilerPlugin + gpgPlugin + jacocoPlugin + footer, result.getContentAsString());
+
+        // A <plugin> without <artifactId> cannot be sorted, its section is reported and left unchanged
+        final List<String> warnings = new ArrayList<>();
+        SortLogger log = new SortLogger() {
+            @Override
+            public void info(String message) {
+                // Progress is not checked
+            }
+
+            @Override
+            public void warn(String message) {
+                warnings.add(message);
+            }
+        };
+        final String invalidPlugin = "            <plugin>\n                <groupId>org.jacoco</groupId>\n            </plugin>\n";
+        final String invalidPom = header + jacocoPlugin + invalidPlugin + compilerPlugin + footer;
+        PomSortResult invalidResult = pomSorter.sort(invalidPom, PomSortOptions.DEFAULT.withModuleName("module-a").withLog(log));
+        assertFalse(invalidResult.isChanged());
+        assertEquals(invalidPom, invalidResult.getContentAsString());
+        assertEquals(Collections.singletonList("Skipping <plugins> element of module module-a: a <plugin> element has no <artifactId>"), warnings);
+    }
+
+    @Test
+    void testSort_FailingSorter() {
+        PomSectionSorter failingSorter = new PomSectionSorter() {
+            @Override
+            public String getSectionName() {
+                return "failing";
+            }
+
+            @Override
+            public boolean sort(Document pomXmlDocument, SortContext context) {
+                throw new IllegalStateException("broken sorter");
+            }
+        };
+        PomSorter failingPomSorter = new PomSorter(Collections.singletonList(failingSorter));
+        PomSortException exception = assertThrows(PomSortException.class, () -> failingPomSorter.sort("<project/>", PomSortOptions.DEFAULT));
+        assertEquals("Error sorting pom.xml: java.lang.IllegalStateException: broken sorter", exception.getMessage());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void testSort_InvalidContent() {
+        PomSortException exception = assertThrows(PomSortException.class, () -> pomSorter.sort("<project>", PomSortOptions.DEFAULT));
+        assertTrue(exception.getMessage().startsWith("Error parsing pom.xml"));
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.github.innobuds.maven.plugin.sorter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactorDependencyIndexTest {
+
+    @Test
+    void testOf() {
+        Object session = new Object();
+        assertSame(ReactorDependencyIndex.of(session, "sort"), ReactorDependencyIndex.of(session, "sort"));
+        assertNotSame(ReactorDependencyIndex.of(session, "sort"), ReactorDependencyIndex.of(new Object(), "sort"));
+        assertNotSame(ReactorDependencyIndex.of(session, "sort"), ReactorDependencyIndex.of(session, "sort-dependencies"));
+    }
+
+    @Test
+    void testFindInconsistencies() {
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        IntStream.range(0, 100).parallel().forEach(i -> {
+            final String module = "module-" + (i % 4);
+            index.add("com.google:guava:jar:", i % 4 == 3 ? "32.1.3-jre" : "33.3.1-jre", null, module);
+            index.add("org.junit.jupiter:junit-jupiter:jar:", "${junit5.version}", i % 4 == 0 ? "compile" : "test", module);
+            index.add("org.apache.commons:commons-lang3:jar:", null, null, module);
+            index.markIndexed(module);
+        });
+
+        assertEquals(3, index.size());
+        assertEquals(4, index.markIndexed("module-0"));
+        List<String> inconsistencies = index.findInconsistencies();
+        assertEquals(2, inconsistencies.size());
+        assertEquals("com.google:guava:jar: is declared with different versions: "
+            + "32.1.3-jre (module-3), 33.3.1-jre (module-0, module-1, module-2)", inconsistencies.get(0));
+        assertEquals("org.junit.jupiter:junit-jupiter:jar: is declared with different scopes: "
+            + "compile (module-0), test (module-1, module-2, module-3)", inconsistencies.get(1));
+    }
+
+    @Test
+    void testFindInconsistencies_Managed() {
+        // A managed dependency without <scope> leaves the scope to the modules using it
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        index.addManaged("org.junit.jupiter:junit-jupiter:jar:", "${junit5.version}", "parent");
+        index.add("org.junit.jupiter:junit-jupiter:jar:", null, "test", "module-a");
+        index.add("org.junit.jupiter:junit-jupiter:jar:", null, "test", "module-b");
+        assertTrue(index.findInconsistencies().isEmpty());
+
+        index.add("org.junit.jupiter:junit-jupiter:jar:", "5.11.3", "test", "module-c");
+        assertEquals(Collections.singletonList("org.junit.jupiter:junit-jupiter:jar: is declared with different versions: "
+            + "${junit5.version} (parent), 5.11.3 (module-c)"), index.findInconsistencies());
+    }
+
+    @Test
+    void testFindHardCodedVersions() {
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        index.add("com.google:guava:jar:", "33.3.1-jre", null, "module-a");
+        index.add("com.google:guava:jar:", "33.3.1-jre", null, "module-b");
+        index.add("com.alibaba:fastjson:jar:", "1.2.83", null, "module-a");
+        index.add("org.junit.jupiter:junit-jupiter:jar:", "${junit5.version}", "test", "module-a");
+        index.add("org.junit.jupiter:junit-jupiter:jar:", "${junit5.version}", "test", "module-b");
+
+        List<String> hardCodedVersions = index.findHardCodedVersions();
+        assertEquals(1, hardCodedVersions.size());
+        assertEquals("com.google:guava:jar: has hard-coded version 33.3.1-jre (module-a, module-b), "
+            + "consider defining it in a property", hardCodedVersions.get(0));
+    }
+
+    @Test
+    void testIsIndexed() {
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        assertTrue(index.isIndexed(Collections.emptySet()));
+        index.markIndexed("module-a");
+        assertTrue(index.isIndexed(Collections.singleton("module-a")));
+        assertFalse(index.isIndexed(Arrays.asList("module-a", "module-b")));
+    }
+
+    @Test
+    void testMarkReported() {
+        ReactorDependencyIndex index = new ReactorDependencyIndex();
+        assertTrue(index.markReported());
+        assertFalse(index.markReported());
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.github.innobuds.maven.plugin.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildStateHelperTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNewInstance() {
+        UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class, BuildStateHelper::new);
+        assertEquals("Utility class should not be instantiated", e.getMessage());
+    }
+
+    @Test
+    void testFingerprint() {
+        final byte[] pomContent = "<project/>".getBytes(StandardCharsets.UTF_8);
+        final String fingerprint = BuildStateHelper.fingerprint(pomContent, "sort-dependencies");
+        assertEquals(64, fingerprint.length());
+        assertEquals(fingerprint, BuildStateHelper.fingerprint(pomContent, "sort-dependencies"));
+        assertNotEquals(fingerprint, BuildStateHelper.fingerprint(pomContent, "sort-plugins"));
+        assertNotEquals(fingerprint, BuildStateHelper.fingerprint("<project></project>".getBytes(StandardCharsets.UTF_8), "sort-dependencies"));
+    }
+
+    @Test
+    void testSaveAndIsUpToDate() throws MojoExecutionException {
+        File stateFile = tempDir.resolve("sort-dependency-maven-plugin/SortMojo.sha256").toFile();
+        assertFalse(BuildStateHelper.isUpToDate(stateFile, "fingerprint"));
+        BuildStateHelper.save(stateFile, "fingerprint");
+        assertTrue(BuildStateHelper.isUpToDate(stateFile, "fingerprint"));
+        assertFalse(BuildStateHelper.isUpToDate(stateFile, "another-fingerprint"));
+    }
+
+}
@@ -1,12 +1,15 @@
 package com.github.innobuds.maven.plugin.util;
 
-import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,7 +22,7 @@ class DomHelperTest {
     }
 
     @Test
-    void testFindCommentNodeOfElement() throws MojoExecutionException {
+    void testFindCommentNodeOfElement() throws IOException {
         File xmlFile = new File("src/test/resources/test-pom-properties-include-child-nodes.xml");
         Document xmlDocument = XmlHelper.parse(xmlFile);
         Element propertiesElement = (Element) xmlDocument.getElementsByTagName("properties").item(0);
@@ -34,4 +37,52 @@ class DomHelperTest {
         assertEquals("This is the kotlin version", kotlinVersionCommentNode.getTextContent().trim());
     }
 
+    @Test
+    void testIsSameNodeSequence() throws IOException {
+        File xmlFile = new File("src/test/resources/test-pom-properties-include-child-nodes.xml");
+        Document xmlDocument = XmlHelper.parse(xmlFile);
+        Element propertiesElement = (Element) xmlDocument.getElementsByTagName("properties").item(0);
+
+        List<Node> childNodes = DomHelper.getSignificantChildNodesOf(propertiesElement);
+        assertTrue(childNodes.stream().allMatch(node -> node.getNodeType() != Node.TEXT_NODE));
+        assertTrue(DomHelper.isSameNodeSequence(childNodes, DomHelper.getSignificantChildNodesOf(propertiesElement)));
+
+        List<Node> recreatedCommentNodes = new ArrayList<>(childNodes);
+        Node kotlinVersionCommentNode = recreatedCommentNodes.get(1);
+        recreatedCommentNodes.set(1, xmlDocument.createComment(kotlinVersionCommentNode.getTextContent()));
+        assertTrue(DomHelper.isSameNodeSequence(childNodes, recreatedCommentNodes));
+
+        List<Node> reorderedNodes = new ArrayList<>(childNodes);
+        reorderedNodes.set(0, childNodes.get(2));
+        reorderedNodes.set(2, childNodes.get(0));
+        assertFalse(DomHelper.isSameNodeSequence(childNodes, reorderedNodes));
+        assertFalse(DomHelper.isSameNodeSequence(childNodes, childNodes.subList(1, childNodes.size())));
+    }
+
+    @Test
+    void testGetDependencyCoordinateKey() throws IOException {
+        final String pomXml = "<dependency>\n"
+            + "  <exclusions><exclusion><groupId>commons-logging</groupId><artifactId>commons-logging</artifactId></exclusion></exclusions>\n"
+            + "  <groupId>\n    org.springframework\n  </groupId>\n"
+            + "  <artifactId> spring-core </artifactId>\n"
+            + "  <classifier> sources </classifier>\n"
+            + "</dependency>";
+        Element dependencyElement = XmlHelper.parse(pomXml.getBytes(StandardCharsets.UTF_8)).getDocumentElement();
+        assertEquals("org.springframework:spring-core", DomHelper.getElementUniqueKey(dependencyElement));
+        assertEquals("org.springframework:spring-core:jar:sources", DomHelper.getDependencyCoordinateKey(dependencyElement));
+    }
+
+    @Test
+    void testGetElementUniqueKey_MissingCoordinates() throws IOException {
+        Element pluginElement = XmlHelper.parse("<plugin><artifactId>maven-compiler-plugin</artifactId></plugin>".getBytes(StandardCharsets.UTF_8)).getDocumentElement();
+        assertEquals("org.apache.maven.plugins:maven-compiler-plugin", DomHelper.getElementUniqueKey(pluginElement));
+
+        Element dependencyElement = XmlHelper.parse("<dependency><artifactId>guava</artifactId></dependency>".getBytes(StandardCharsets.UTF_8)).getDocumentElement();
+        assertNull(DomHelper.getElementUniqueKey(dependencyElement));
+        assertNull(DomHelper.getDependencyCoordinateKey(dependencyElement));
+
+        Element invalidPluginElement = XmlHelper.parse("<plugin><groupId>org.jacoco</groupId></plugin>".getBytes(StandardCharsets.UTF_8)).getDocumentElement();
+        assertNull(DomHelper.getElementUniqueKey(invalidPluginElement));
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.github.innobuds.maven.plugin.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlFormatHelperTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConstructor() {
+        assertThrows(UnsupportedOperationException.class, XmlFormatHelper::new);
+    }
+
+    @Test
+    void testDetect() {
+        assertEquals(XmlFormat.DEFAULT, XmlFormatHelper.detect(bytes("<?xml version=\"1.0\"?>\n<project>\n    <modelVersion/>\n</project>\n")));
+        assertEquals(new XmlFormat("  ", "\r\n", false),
+            XmlFormatHelper.detect(bytes("<project xmlns=\"a\"\r\n         xmlns:xsi=\"b\">\r\n  <modelVersion/>\r\n</project>")));
+        assertEquals(new XmlFormat("\t", "\n", true), XmlFormatHelper.detect(bytes("<project>\n\t<build>\n\t\t<plugins/>\n\t</build>\n</project>\n")));
+        assertEquals(XmlFormat.DEFAULT, XmlFormatHelper.detect(new byte[0]));
+    }
+
+    @Test
+    void testResolve() {
+        final XmlFormat detected = new XmlFormat("  ", "\r\n", false);
+        assertEquals(detected, XmlFormatHelper.resolve(detected, Collections.emptyMap()));
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("indent_style", "space");
+        properties.put("indent_size", "4");
+        properties.put("end_of_line", "LF");
+        properties.put("insert_final_newline", "true");
+        assertEquals(XmlFormat.DEFAULT, XmlFormatHelper.resolve(detected, properties));
+
+        properties.put("indent_style", "tab");
+        properties.put("end_of_line", "unset");
+        assertEquals(new XmlFormat("\t", "\r\n", true), XmlFormatHelper.resolve(detected, properties));
+    }
+
+    @Test
+    void testGetEditorConfigProperties() throws IOException {
+        Files.write(tempDir.resolve(".editorconfig"), bytes("root = true\n\n[*]\nend_of_line = crlf\nindent_size = 8\n\n[*.{xml,xsd}]\nindent_size = 2\n"));
+        Path moduleDir = Files.createDirectories(tempDir.resolve("parent/module"));
+        Files.write(tempDir.resolve("parent/.editorconfig"), bytes("# module settings\n[module/pom.xml]\ninsert_final_newline = false\n"));
+        Path pomFile = Files.write(moduleDir.resolve("pom.xml"), bytes("<project>\n    <modelVersion/>\n</project>\n"));
+
+        Map<String, String> properties = XmlFormatHelper.getEditorConfigProperties(pomFile);
+        assertEquals("crlf", properties.get("end_of_line"));
+        assertEquals("2", properties.get("indent_size"));
+        assertEquals("false", properties.get("insert_final_newline"));
+        assertEquals(new XmlFormat("  ", "\r\n", false), XmlFormatHelper.resolve(pomFile.toFile(), Files.readAllBytes(pomFile)));
+
+        // The cached files are parsed again once modified
+        Files.write(tempDir.resolve("parent/.editorconfig"), bytes("[*.xml]\nindent_style = tab\n"));
+        Files.setLastModifiedTime(tempDir.resolve("parent/.editorconfig"), FileTime.fromMillis(0));
+        assertEquals(new XmlFormat("\t", "\r\n", true), XmlFormatHelper.resolve(pomFile.toFile(), Files.readAllBytes(pomFile)));
+    }
+
+    @Test
+    void testCompileGlob() {
+        Pattern pattern = EditorConfigFile.compileGlob("*.{xml,xsd}");
+        assertTrue(pattern.matcher("pom.xml").matches());
+        assertTrue(pattern.matcher("module/schema.xsd").matches());
+        assertFalse(pattern.matcher("pom.xml.bak").matches());
+        assertTrue(EditorConfigFile.compileGlob("/module/**").matcher("module/sub/pom.xml").matches());
+        assertFalse(EditorConfigFile.compileGlob("/module/*").matcher("module/sub/pom.xml").matches());
+        assertTrue(EditorConfigFile.compileGlob("pom.[!j]ml").matcher("pom.xml").matches());
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
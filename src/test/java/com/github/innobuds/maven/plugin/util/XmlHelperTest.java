@@ -1,9 +1,13 @@
 package com.github.innobuds.maven.plugin.util;
 
-import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,8 +22,43 @@ class XmlHelperTest {
     @Test
     void testParse() {
         File pomFile = new File("src/test/resources/no-such-file.xml");
-        MojoExecutionException e = assertThrows(MojoExecutionException.class, () -> XmlHelper.parse(pomFile));
+        IOException e = assertThrows(IOException.class, () -> XmlHelper.parse(pomFile));
         assertTrue(e.getMessage().contains("Error parsing pom.xml"));
     }
 
+    @Test
+    void testParse_InvalidContentIsNotPrinted() {
+        PrintStream systemErr = System.err;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(err, true));
+        try {
+            // The second parse reuses the reset parser of the thread
+            for (int i = 0; i < 2; i++) {
+                IOException e = assertThrows(IOException.class, () -> XmlHelper.parse("<project>".getBytes(StandardCharsets.UTF_8)));
+                assertTrue(e.getMessage().startsWith("Error parsing pom.xml"));
+            }
+        } finally {
+            System.setErr(systemErr);
+        }
+        assertEquals(0, err.size());
+    }
+
+    @Test
+    void testSerialize_DeclaredEncoding() throws IOException {
+        final byte[] xmlContent = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<project>\n    <name>Caf\u00e9</name>\n</project>\n"
+            .getBytes(StandardCharsets.ISO_8859_1);
+        Document xmlDocument = XmlHelper.parse(xmlContent);
+        assertEquals(StandardCharsets.ISO_8859_1, XmlHelper.getCharset(xmlDocument));
+        assertArrayEquals(xmlContent, XmlHelper.serialize(xmlDocument));
+    }
+
+    @Test
+    void testSerialize_UnmappableCharacter() throws IOException {
+        final byte[] xmlContent = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<project><name>&#x4e2d;</name></project>\n"
+            .getBytes(StandardCharsets.ISO_8859_1);
+        Document xmlDocument = XmlHelper.parse(xmlContent);
+        IOException e = assertThrows(IOException.class, () -> XmlHelper.serialize(xmlDocument));
+        assertTrue(e.getMessage().contains("Error updating pom.xml"));
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.github.innobuds.maven.plugin.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XmlSerializerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "src/test/resources/test-pom-dependencies-include-dependency-tags.xml",
+        "src/test/resources/test-pom-empty-dependencies-tag.xml",
+        "src/test/resources/test-pom-properties-include-child-nodes.xml",
+        "src/test/resources/test-pom-unsorted-sections.xml",
+        "pom.xml"
+    })
+    void testSerialize_RoundTrip(String xmlFilePath) throws IOException {
+        final String xmlContent = new String(Files.readAllBytes(Paths.get(xmlFilePath)), StandardCharsets.UTF_8);
+        assertEquals(xmlContent, serialize(xmlContent, XmlFormat.DEFAULT));
+    }
+
+    @Test
+    void testSerialize_Layout() throws IOException {
+        final String xmlContent = "<?xml version=\"1.0\"?>\n"
+            + "<!-- header -->\n"
+            + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\" a=\"1\" b=\"&quot;&amp;\">\n"
+            + "\n\n\n"
+            + "  <name>A &amp; B &lt;C&gt;</name>\n"
+            + "  <description><![CDATA[<raw>]]></description>\n"
+            + "  <modules>   </modules>\n"
+            + "  <build><plugins/></build>\n"
+            + "</project>";
+        final String expected = "<?xml version=\"1.0\"?>\r\n"
+            + "<!-- header -->\r\n"
+            + "<project a=\"1\"\r\n"
+            + "         b=\"&quot;&amp;\"\r\n"
+            + "         xmlns=\"http://maven.apache.org/POM/4.0.0\">\r\n"
+            + "\r\n"
+            + "\t<name>A &amp; B &lt;C&gt;</name>\r\n"
+            + "\t<description><![CDATA[<raw>]]></description>\r\n"
+            + "\t<modules></modules>\r\n"
+            + "\t<build>\r\n"
+            + "\t\t<plugins/>\r\n"
+            + "\t</build>\r\n"
+            + "</project>";
+        assertEquals(expected, serialize(xmlContent, new XmlFormat("\t", "\r\n", false)));
+    }
+
+    @Test
+    void testSerialize_MultilineContent() throws IOException {
+        // The parser normalizes CRLF line breaks to LF, they are written back with the line separator of the format
+        final String xmlContent = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\r\n"
+            + "<project>\r\n"
+            + "  <!--\r\n"
+            + "    comment\r\n"
+            + "  -->\r\n"
+            + "  <description>line 1\r\n"
+            + "    line 2 &amp; 3</description>\r\n"
+            + "  <inceptionYear><![CDATA[line 1\r\nline 2]]></inceptionYear>\r\n"
+            + "</project>\r\n";
+        assertEquals(xmlContent, serialize(xmlContent, new XmlFormat("  ", "\r\n", true)));
+        assertEquals(xmlContent.replace("\r\n", "\n"), serialize(xmlContent, new XmlFormat("  ", "\n", true)));
+    }
+
+    @Test
+    void testSerialize_XmlDeclaration() throws IOException, ParserConfigurationException {
+        // The declaration of the source is kept as it was written, or left out if there is none
+        assertEquals("<?xml version='1.0' standalone='yes' ?>\n<project/>\n",
+            serialize("<?xml version='1.0' standalone='yes' ?><project/>", XmlFormat.DEFAULT));
+        assertEquals("<project/>\n", serialize("<project/>", XmlFormat.DEFAULT));
+
+        // A document that was not parsed gets a declaration built from its properties
+        Document xmlDocument = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        xmlDocument.appendChild(xmlDocument.createElement("project"));
+        StringWriter writer = new StringWriter();
+        new XmlSerializer(XmlFormat.DEFAULT).serialize(xmlDocument, writer);
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project/>\n", writer.toString());
+    }
+
+    private String serialize(String xmlContent, XmlFormat format) throws IOException {
+        StringWriter writer = new StringWriter();
+        new XmlSerializer(format).serialize(XmlHelper.parse(xmlContent.getBytes(StandardCharsets.UTF_8)), writer);
+        return writer.toString();
+    }
+
+}